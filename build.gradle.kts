@@ -7,6 +7,7 @@ plugins {
     id("io.freefair.lombok") version "8.14"
     `maven-publish`
     id("org.jreleaser") version "1.20.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "trade.invision"
@@ -41,6 +42,27 @@ tasks.javadoc.configure {
     }
 }
 
+jmh {
+    jmhVersion = "1.37"
+    // Publish machine-readable results so that regressions can be compared between versions.
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    benchmarkMode = listOf("avgt")
+    timeUnit = "ns"
+    fork = 1
+    warmupIterations = 3
+    warmup = "1s"
+    iterations = 5
+    timeOnIteration = "1s"
+    // The full parameter matrix declared in the benchmarks takes hours, so the default run benchmarks every Indicator
+    // at a single Series length, Indicator length, and NumFactory. Pass `-PjmhFullMatrix` to run the full matrix.
+    if (!project.hasProperty("jmhFullMatrix")) {
+        benchmarkParameters.put("seriesLength", objects.listProperty<String>().value(listOf("100000")))
+        benchmarkParameters.put("indicatorLength", objects.listProperty<String>().value(listOf("14")))
+        benchmarkParameters.put("numFactoryType", objects.listProperty<String>().value(listOf("DOUBLE")))
+    }
+}
+
 val stagingDeployDirectory = file("build/staging-deploy")
 
 publishing {
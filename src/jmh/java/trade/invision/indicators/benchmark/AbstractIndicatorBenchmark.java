@@ -0,0 +1,96 @@
+package trade.invision.indicators.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+import trade.invision.num.Num;
+import trade.invision.num.NumFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static java.time.Duration.ofMinutes;
+import static trade.invision.num.DecimalNum.decimalNum64Factory;
+import static trade.invision.num.DoubleNum.doubleNumFactory;
+
+/**
+ * {@link AbstractIndicatorBenchmark} is an abstract class that holds the parameters shared by all {@link Indicator}
+ * benchmarks and generates a deterministic random walk of {@link Bar}s.
+ */
+public abstract class AbstractIndicatorBenchmark {
+
+    protected static final Instant START = Instant.parse("2015-01-02T14:30:00Z");
+    protected static final Duration DURATION = ofMinutes(1);
+
+    @Param
+    public BenchmarkIndicator indicatorType;
+    @Param({"1000", "100000"})
+    public int seriesLength;
+    @Param({"14", "200"})
+    public int indicatorLength;
+    @Param({"false", "true"})
+    public boolean caching;
+    @Param({"DECIMAL_64", "DOUBLE"})
+    public String numFactoryType;
+
+    protected NumFactory numFactory;
+    protected SplittableRandom random;
+    protected double price;
+    protected Bar[] bars;
+
+    /**
+     * Initializes {@link #numFactory} and generates {@link #seriesLength} {@link #bars}.
+     */
+    protected void initialize() {
+        numFactory = switch (numFactoryType) {
+            case "DECIMAL_64" -> decimalNum64Factory();
+            case "DOUBLE" -> doubleNumFactory();
+            default -> throw new IllegalArgumentException(numFactoryType);
+        };
+        random = new SplittableRandom(0);
+        price = 100;
+        bars = new Bar[seriesLength];
+        for (int index = 0; index < seriesLength; index++) {
+            bars[index] = nextBar(index);
+        }
+    }
+
+    /**
+     * Creates the next {@link Bar} of the random walk.
+     *
+     * @param index the index of the {@link Bar}
+     *
+     * @return the {@link Bar}
+     */
+    protected Bar nextBar(long index) {
+        final double open = price;
+        price = Math.max(1, price + random.nextDouble(-1, 1));
+        final double high = Math.max(open, price) + random.nextDouble(0.5);
+        final double low = Math.min(open, price) - random.nextDouble(0.5);
+        return new Bar(START.plus(DURATION.multipliedBy(index)), DURATION,
+                numFactory.of(open), numFactory.of(high), numFactory.of(low), numFactory.of(price),
+                numFactory.of(random.nextInt(100, 10_000)), numFactory.of(random.nextInt(1, 100)));
+    }
+
+    /**
+     * Creates a new {@link BarSeries} with a maximum length of {@link #seriesLength} that contains {@link #bars}.
+     *
+     * @return the {@link BarSeries}
+     */
+    protected BarSeries newBarSeries() {
+        final BarSeries barSeries = new BarSeries(seriesLength, numFactory);
+        for (Bar bar : bars) {
+            barSeries.add(bar);
+        }
+        return barSeries;
+    }
+
+    /**
+     * @return a random price change to apply to the last {@link Bar}
+     */
+    protected Num nextTradePrice() {
+        return numFactory.of(price + random.nextDouble(-0.5, 0.5));
+    }
+}
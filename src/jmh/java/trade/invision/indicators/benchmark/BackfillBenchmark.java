@@ -0,0 +1,49 @@
+package trade.invision.indicators.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link BackfillBenchmark} measures the cost of calculating an {@link Indicator} over every index of a new
+ * {@link BarSeries}, both with a {@link Indicator#getValue(long)} loop and with
+ * {@link Indicator#computeRange(long, long, Object[], int)}. A new {@link BarSeries} and {@link Indicator} are created
+ * for every invocation so that no previously calculated values are reused.
+ */
+@State(Scope.Thread)
+public class BackfillBenchmark extends AbstractIndicatorBenchmark {
+
+    private BarSeries barSeries;
+    private Indicator<Object> indicator;
+    private Object[] destination;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        initialize();
+        destination = new Object[seriesLength];
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        barSeries = newBarSeries();
+        indicator = indicatorType.create(barSeries, indicatorLength, caching);
+    }
+
+    @Benchmark
+    public void getValueLoop(Blackhole blackhole) {
+        for (long index = barSeries.getStartIndex(); index <= barSeries.getEndIndex(); index++) {
+            blackhole.consume(indicator.getValue(index));
+        }
+    }
+
+    @Benchmark
+    public Object[] computeRange() {
+        indicator.computeRange(barSeries.getStartIndex(), barSeries.getEndIndex(), destination, 0);
+        return destination;
+    }
+}
@@ -0,0 +1,145 @@
+package trade.invision.indicators.benchmark;
+
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.bb.BollingerBandsResultType;
+import trade.invision.indicators.indicators.statistical.regression.LinearRegressionResultType;
+import trade.invision.indicators.series.bar.BarSeries;
+
+import java.util.EnumSet;
+import java.util.function.BiFunction;
+
+import static trade.invision.indicators.indicators.acdc.AccelerationDeceleration.acdc;
+import static trade.invision.indicators.indicators.ad.AccumulationDistribution.ad;
+import static trade.invision.indicators.indicators.ao.AwesomeOscillator.ao;
+import static trade.invision.indicators.indicators.bar.Close.close;
+import static trade.invision.indicators.indicators.bb.BollingerBands.bollingerBands;
+import static trade.invision.indicators.indicators.bullishbearish.local.LocalBullishPercentage.localBullishPercentage;
+import static trade.invision.indicators.indicators.cci.CommodityChannelIndex.cci;
+import static trade.invision.indicators.indicators.chaikin.ChaikinMoneyFlow.cmf;
+import static trade.invision.indicators.indicators.closeprice.ClosePricePercentChange.closePricePercentChange;
+import static trade.invision.indicators.indicators.clv.CloseLocationValue.clv;
+import static trade.invision.indicators.indicators.cmo.ChandeMomentumOscillator.cmo;
+import static trade.invision.indicators.indicators.convergencedivergence.ConvergenceDivergenceType.POSITIVE_CONVERGENCE;
+import static trade.invision.indicators.indicators.convergencedivergence.SimpleConvergenceDivergence.simpleConvergenceDivergence;
+import static trade.invision.indicators.indicators.crossed.Crossed.crossed;
+import static trade.invision.indicators.indicators.cumulative.CumulativeSum.cumulativeSum;
+import static trade.invision.indicators.indicators.draw.percentage.local.LocalDrawdownPercentage.dd;
+import static trade.invision.indicators.indicators.extrema.global.GlobalMaximum.globalMaximum;
+import static trade.invision.indicators.indicators.extrema.local.LocalMaximum.localMaximum;
+import static trade.invision.indicators.indicators.extrema.local.PrimitiveLocalMaximum.primitiveLocalMaximum;
+import static trade.invision.indicators.indicators.gainloss.Gain.gain;
+import static trade.invision.indicators.indicators.iii.IntradayIntensityIndex.iii;
+import static trade.invision.indicators.indicators.ma.MovingAverageSupplier.exponential;
+import static trade.invision.indicators.indicators.ma.MovingAverageSupplier.simple;
+import static trade.invision.indicators.indicators.ma.ema.ExponentialMovingAverage.ema;
+import static trade.invision.indicators.indicators.ma.ema.PrimitiveExponentialMovingAverage.primitiveExponentialMovingAverage;
+import static trade.invision.indicators.indicators.ma.hma.HullMovingAverage.hma;
+import static trade.invision.indicators.indicators.ma.kama.KaufmansAdaptiveMovingAverage.kama;
+import static trade.invision.indicators.indicators.ma.lsma.LeastSquaresMovingAverage.lsma;
+import static trade.invision.indicators.indicators.ma.sma.PrimitiveSimpleMovingAverage.primitiveSimpleMovingAverage;
+import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.sma;
+import static trade.invision.indicators.indicators.ma.wma.WeightedMovingAverage.wma;
+import static trade.invision.indicators.indicators.macd.MovingAverageConvergenceDivergence.macd;
+import static trade.invision.indicators.indicators.mad.MovingAverageDistancePercentage.madp;
+import static trade.invision.indicators.indicators.mf.MoneyFlowIndex.moneyFlowIndex;
+import static trade.invision.indicators.indicators.nvi.NegativeVolumeIndex.negativeVolumeIndex;
+import static trade.invision.indicators.indicators.obv.OnBalanceVolume.obv;
+import static trade.invision.indicators.indicators.ppo.PercentagePriceOscillator.ppo;
+import static trade.invision.indicators.indicators.previous.PreviousDifference.previousDifference;
+import static trade.invision.indicators.indicators.pvo.PercentageVolumeOscillator.pvo;
+import static trade.invision.indicators.indicators.rb.RealBody.rb;
+import static trade.invision.indicators.indicators.risingfalling.local.LocalRisingPercentage.localRisingPercentage;
+import static trade.invision.indicators.indicators.rsi.RelativeStrengthIndex.rsi;
+import static trade.invision.indicators.indicators.rsi.StochasticRelativeStrengthIndex.stochrsi;
+import static trade.invision.indicators.indicators.rvol.RelativeVolume.rvol;
+import static trade.invision.indicators.indicators.statistical.StandardDeviation.stddev;
+import static trade.invision.indicators.indicators.statistical.regression.LinearRegression.linearRegression;
+import static trade.invision.indicators.indicators.supertrend.Supertrend.supertrend;
+import static trade.invision.indicators.indicators.tr.AverageTrueRange.atr;
+import static trade.invision.indicators.indicators.tsv.TimeSegmentedVolume.tsv;
+import static trade.invision.indicators.indicators.ui.UlcerIndex.ui;
+import static trade.invision.indicators.indicators.volume.VolumePercentChange.volumePricePercentChange;
+import static trade.invision.indicators.indicators.vwap.VolumeWeightedAveragePrice.vwap;
+import static trade.invision.indicators.indicators.wpr.WilliamsPercentRange.wpr;
+
+/**
+ * {@link BenchmarkIndicator} is an enum of {@link Indicator} configurations, with at least one per {@link Indicator}
+ * family (excluding building blocks such as bar values, constants, and operations), that the benchmarks are
+ * parameterized over.
+ */
+public enum BenchmarkIndicator {
+
+    SMA((barSeries, length) -> sma(close(barSeries), length)),
+    EMA((barSeries, length) -> ema(close(barSeries), length)),
+    WMA((barSeries, length) -> wma(close(barSeries), length)),
+    MACD((barSeries, length) -> macd(close(barSeries), length, length * 2, exponential())),
+    RSI((barSeries, length) -> rsi(close(barSeries), length, exponential())),
+    CCI((barSeries, length) -> cci(close(barSeries), length, simple())),
+    BOLLINGER_BANDS((barSeries, length) -> bollingerBands(close(barSeries),
+            EnumSet.allOf(BollingerBandsResultType.class), length, barSeries.numOf(2), simple(), false)),
+    LINEAR_REGRESSION((barSeries, length) -> linearRegression(close(barSeries),
+            EnumSet.allOf(LinearRegressionResultType.class), length)),
+    STANDARD_DEVIATION((barSeries, length) -> stddev(close(barSeries), length, false)),
+    CUMULATIVE_SUM((barSeries, length) -> cumulativeSum(close(barSeries), length)),
+    LOCAL_MAXIMUM((barSeries, length) -> localMaximum(close(barSeries), length)),
+    SUPERTREND((barSeries, length) -> supertrend(barSeries, length, barSeries.numOf(3), exponential())),
+    PRIMITIVE_SMA((barSeries, length) -> primitiveSimpleMovingAverage(close(barSeries), length)),
+    PRIMITIVE_EMA((barSeries, length) -> primitiveExponentialMovingAverage(close(barSeries), length)),
+    PRIMITIVE_LOCAL_MAXIMUM((barSeries, length) -> primitiveLocalMaximum(close(barSeries), length)),
+    ACCELERATION_DECELERATION((barSeries, length) -> acdc(close(barSeries), length, length * 2, simple())),
+    ACCUMULATION_DISTRIBUTION((barSeries, length) -> ad(barSeries)),
+    AVERAGE_TRUE_RANGE((barSeries, length) -> atr(barSeries, length, exponential())),
+    AWESOME_OSCILLATOR((barSeries, length) -> ao(barSeries, length, length * 2, simple())),
+    CHAIKIN_MONEY_FLOW((barSeries, length) -> cmf(barSeries, length)),
+    CHANDE_MOMENTUM_OSCILLATOR((barSeries, length) -> cmo(close(barSeries), length)),
+    CLOSE_LOCATION_VALUE((barSeries, length) -> clv(barSeries)),
+    CLOSE_PRICE_PERCENT_CHANGE((barSeries, length) -> closePricePercentChange(barSeries, length)),
+    CROSSED((barSeries, length) -> crossed(sma(close(barSeries), length), sma(close(barSeries), length * 2))),
+    GAIN((barSeries, length) -> gain(close(barSeries), length)),
+    GLOBAL_MAXIMUM((barSeries, length) -> globalMaximum(close(barSeries))),
+    HMA((barSeries, length) -> hma(close(barSeries), length)),
+    INTRADAY_INTENSITY_INDEX((barSeries, length) -> iii(barSeries)),
+    KAMA((barSeries, length) -> kama(close(barSeries), length)),
+    LOCAL_BULLISH_PERCENTAGE((barSeries, length) -> localBullishPercentage(barSeries, length)),
+    LOCAL_DRAWDOWN_PERCENTAGE((barSeries, length) -> dd(close(barSeries), length)),
+    LOCAL_RISING_PERCENTAGE((barSeries, length) -> localRisingPercentage(close(barSeries), length)),
+    LSMA((barSeries, length) -> lsma(close(barSeries), length)),
+    MONEY_FLOW_INDEX((barSeries, length) -> moneyFlowIndex(barSeries, length)),
+    MOVING_AVERAGE_DISTANCE_PERCENTAGE((barSeries, length) -> madp(close(barSeries), length, simple())),
+    NEGATIVE_VOLUME_INDEX((barSeries, length) -> negativeVolumeIndex(barSeries)),
+    ON_BALANCE_VOLUME((barSeries, length) -> obv(barSeries)),
+    PERCENTAGE_PRICE_OSCILLATOR((barSeries, length) -> ppo(close(barSeries), length, length * 2, exponential())),
+    PERCENTAGE_VOLUME_OSCILLATOR((barSeries, length) -> pvo(barSeries, length, length * 2, exponential())),
+    PREVIOUS_DIFFERENCE((barSeries, length) -> previousDifference(close(barSeries), length)),
+    REAL_BODY((barSeries, length) -> rb(barSeries)),
+    RELATIVE_VOLUME((barSeries, length) -> rvol(barSeries, length, simple())),
+    SIMPLE_CONVERGENCE_DIVERGENCE((barSeries, length) -> simpleConvergenceDivergence(close(barSeries),
+            obv(barSeries), POSITIVE_CONVERGENCE, length, barSeries.numOf(0.1))),
+    STOCHASTIC_RSI((barSeries, length) -> stochrsi(close(barSeries), length, exponential())),
+    TIME_SEGMENTED_VOLUME((barSeries, length) -> tsv(barSeries, length)),
+    ULCER_INDEX((barSeries, length) -> ui(close(barSeries), length)),
+    VOLUME_PERCENT_CHANGE((barSeries, length) -> volumePricePercentChange(barSeries, length)),
+    VWAP((barSeries, length) -> vwap(barSeries, length)),
+    WILLIAMS_PERCENT_RANGE((barSeries, length) -> wpr(close(barSeries), length));
+
+    private final BiFunction<BarSeries, Integer, Indicator<?>> factory;
+
+    BenchmarkIndicator(BiFunction<BarSeries, Integer, Indicator<?>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates this {@link BenchmarkIndicator}.
+     *
+     * @param barSeries the {@link BarSeries}
+     * @param length    the {@link Indicator} length
+     * @param caching   <code>true</code> to call {@link Indicator#caching()}
+     *
+     * @return the {@link Indicator}
+     */
+    @SuppressWarnings("unchecked")
+    public Indicator<Object> create(BarSeries barSeries, int length, boolean caching) {
+        final Indicator<Object> indicator = (Indicator<Object>) factory.apply(barSeries, length);
+        return caching ? indicator.caching() : indicator;
+    }
+}
@@ -0,0 +1,37 @@
+package trade.invision.indicators.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link EndIndexUpdateBenchmark} measures the steady-state cost of adding a new {@link Bar} to a full {@link BarSeries}
+ * and calculating the {@link Indicator} at {@link BarSeries#getEndIndex()}, which is the typical live access pattern.
+ */
+@State(Scope.Thread)
+public class EndIndexUpdateBenchmark extends AbstractIndicatorBenchmark {
+
+    private BarSeries barSeries;
+    private Indicator<Object> indicator;
+    private long nextIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        initialize();
+        barSeries = newBarSeries();
+        indicator = indicatorType.create(barSeries, indicatorLength, caching);
+        indicator.getValue(barSeries.getEndIndex());
+        nextIndex = barSeries.getEndIndex() + 1;
+    }
+
+    @Benchmark
+    public Object addAndGetEndValue() {
+        barSeries.add(nextBar(nextIndex++));
+        return indicator.getValue(barSeries.getEndIndex());
+    }
+}
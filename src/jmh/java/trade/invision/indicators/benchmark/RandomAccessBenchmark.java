@@ -0,0 +1,43 @@
+package trade.invision.indicators.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link RandomAccessBenchmark} measures the cost of calculating an {@link Indicator} at random historical indices of
+ * a full {@link BarSeries}, which defeats the consecutive index optimizations and exercises the {@link Indicator}
+ * cache when {@link #caching} is <code>true</code>.
+ */
+@State(Scope.Thread)
+public class RandomAccessBenchmark extends AbstractIndicatorBenchmark {
+
+    private static final int INDICES_LENGTH = 1024;
+
+    private BarSeries barSeries;
+    private Indicator<Object> indicator;
+    private long[] indices;
+    private int indicesIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        initialize();
+        barSeries = newBarSeries();
+        indicator = indicatorType.create(barSeries, indicatorLength, caching);
+        indicator.getValue(barSeries.getEndIndex());
+        indices = new long[INDICES_LENGTH];
+        for (int index = 0; index < INDICES_LENGTH; index++) {
+            indices[index] = random.nextLong(barSeries.getStartIndex(), barSeries.getEndIndex() + 1);
+        }
+    }
+
+    @Benchmark
+    public Object getRandomValue() {
+        indicesIndex = (indicesIndex + 1) & (INDICES_LENGTH - 1);
+        return indicator.getValue(indices[indicesIndex]);
+    }
+}
@@ -0,0 +1,36 @@
+package trade.invision.indicators.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link ReplaceLastUpdateBenchmark} measures the cost of an intrabar update, which replaces the last {@link Bar} of a
+ * full {@link BarSeries} via {@link BarSeries#replaceLast(Object)} and calculates the {@link Indicator} at
+ * {@link BarSeries#getEndIndex()}.
+ */
+@State(Scope.Thread)
+public class ReplaceLastUpdateBenchmark extends AbstractIndicatorBenchmark {
+
+    private BarSeries barSeries;
+    private Indicator<Object> indicator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        initialize();
+        barSeries = newBarSeries();
+        indicator = indicatorType.create(barSeries, indicatorLength, caching);
+        indicator.getValue(barSeries.getEndIndex());
+    }
+
+    @Benchmark
+    public Object replaceLastAndGetEndValue() {
+        barSeries.replaceLast(barSeries.getLast().addPrice(nextTradePrice()));
+        return indicator.getValue(barSeries.getEndIndex());
+    }
+}
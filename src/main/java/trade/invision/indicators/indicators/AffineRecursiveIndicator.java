@@ -0,0 +1,69 @@
+package trade.invision.indicators.indicators;
+
+import trade.invision.indicators.series.Series;
+import trade.invision.num.Num;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link AffineRecursiveIndicator} is an abstract {@link RecursiveIndicator} class for {@link Num} {@link Indicator}s
+ * whose values follow an affine recurrence of the form <code>value(index) = a(index) * value(index - 1) +
+ * b(index)</code>, such as an exponential moving average or a running total. Since affine maps compose associatively,
+ * {@link #computeRangeParallel(long, long, ForkJoinPool)} evaluates these {@link Indicator}s with a parallel prefix
+ * scan instead of sequentially: the composed map of each chunk of the range is calculated concurrently, the value
+ * before each chunk is then derived sequentially from the composed maps, and finally each chunk is calculated
+ * concurrently from the value before it using {@link #calculate(long, Num)}. The values are therefore identical to
+ * sequential evaluation whenever the {@link Num} arithmetic is exact.
+ */
+public abstract class AffineRecursiveIndicator extends RecursiveIndicator<Num> {
+
+    /**
+     * @see RecursiveIndicator#RecursiveIndicator(Series, int)
+     */
+    public AffineRecursiveIndicator(Series<?> series, int minimumStableIndex) {
+        super(series, minimumStableIndex);
+    }
+
+    @Override
+    protected Num calculate(long index) {
+        return index == 0 ? calculateFirst() : calculate(index, getValue(index - 1));
+    }
+
+    /**
+     * Performs the calculation of this {@link AffineRecursiveIndicator} at <code>index</code> <code>0</code>.
+     *
+     * @return the result
+     */
+    protected abstract Num calculateFirst();
+
+    /**
+     * Performs the calculation of this {@link AffineRecursiveIndicator} at the given <code>index</code>, which is
+     * greater than <code>0</code>, from the value at <code>index - 1</code>. This must be equal to
+     * <code>getCoefficient(index) * previousValue + getOffset(index)</code>.
+     *
+     * @param index         the index
+     * @param previousValue the value at <code>index - 1</code>
+     *
+     * @return the result
+     */
+    protected abstract Num calculate(long index, Num previousValue);
+
+    /**
+     * Gets the coefficient of the value at <code>index - 1</code> in the recurrence at the given <code>index</code>,
+     * which is greater than <code>0</code>.
+     *
+     * @param index the index
+     *
+     * @return the coefficient
+     */
+    protected abstract Num getCoefficient(long index);
+
+    /**
+     * Gets the constant term of the recurrence at the given <code>index</code>, which is greater than <code>0</code>.
+     *
+     * @param index the index
+     *
+     * @return the offset
+     */
+    protected abstract Num getOffset(long index);
+}
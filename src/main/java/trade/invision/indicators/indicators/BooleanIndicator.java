@@ -0,0 +1,514 @@
+package trade.invision.indicators.indicators;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.series.BooleanSeries;
+import trade.invision.indicators.series.CircularBitArray;
+import trade.invision.indicators.series.Series;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Long.bitCount;
+import static java.lang.Math.min;
+import static java.util.Arrays.fill;
+
+/**
+ * {@link BooleanIndicator} is an abstract {@link Boolean} {@link Indicator} class for {@link Indicator}s that perform
+ * their calculations on primitive <code>boolean</code>s. Its caches store each value as a bit instead of as a
+ * {@link Boolean} reference, along with a bit that marks whether the value has been calculated, so a cached index
+ * occupies two bits instead of a reference slot. Since the bits are packed into <code>long</code> words,
+ * {@link #countTrue(long, long)} counts the cached values 64 at a time using {@link Long#bitCount(long)}, which is
+ * useful for counting the occurrences of a condition over a window, such as the number of crossings in the last
+ * <code>N</code> values. This class is not thread-safe.
+ */
+public abstract class BooleanIndicator extends Indicator<Boolean> {
+
+    /**
+     * The result of {@link #getCachedBoolean(long)} and {@link #countCachedTrue(long, long)} for values that are not
+     * cached.
+     */
+    private static final int UNCACHED = -1;
+
+    protected @Nullable BooleanCacheSeries booleanCacheSeries;
+    protected @Nullable BooleanWindowCache booleanWindowCache;
+    protected boolean cachedBoolean;
+    /**
+     * Tracks the index of {@link #cachedBoolean} and the end index value in {@link #booleanCacheSeries} or
+     * {@link #booleanWindowCache}.
+     */
+    final CacheTracker booleanCacheTracker;
+
+    /**
+     * @see Indicator#Indicator(Series, int)
+     */
+    public BooleanIndicator(Series<?> series, int minimumStableIndex) {
+        super(series, minimumStableIndex);
+        booleanCacheTracker = new CacheTracker(series);
+    }
+
+    /**
+     * Performs the calculation of this {@link BooleanIndicator} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the result
+     */
+    protected abstract boolean calculateBoolean(long index);
+
+    @Override
+    protected Boolean calculate(long index) {
+        return getBoolean(index);
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link #getValue(long)} with identical caching semantics, except
+     * that the cache stores bits.
+     *
+     * @param index the index
+     *
+     * @return the result
+     *
+     * @see #getValue(long)
+     */
+    public boolean getBoolean(long index) {
+        if (concurrentReads) {
+            return getBooleanConcurrently(index);
+        }
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.calls++;
+        }
+        if (index > series.getEndIndex()) {
+            return meteredCalculateBoolean(index);
+        } else if (index < series.getStartIndex()) {
+            return meteredCalculateBoolean(0);
+        } else if (booleanCacheTracker.isCachedIndex(index)) {
+            if (metrics != null) {
+                metrics.cachedIndexHits++;
+            }
+            return cachedBoolean;
+        } else {
+            boolean value;
+            if (booleanCacheSeries != null || booleanWindowCache != null) {
+                padBooleanCacheSeries();
+                final int cached = getCachedBoolean(index);
+                if (cached == UNCACHED) {
+                    if (metrics != null) {
+                        metrics.cacheMisses++;
+                    }
+                    value = meteredCalculateBoolean(index);
+                    setCachedBoolean(index, value);
+                } else {
+                    if (metrics != null) {
+                        metrics.cacheHits++;
+                    }
+                    value = cached == 1;
+                }
+            } else {
+                value = meteredCalculateBoolean(index);
+            }
+            booleanCacheTracker.setCachedIndex(index);
+            cachedBoolean = value;
+            return value;
+        }
+    }
+
+    /**
+     * Returns {@link #getBoolean(long)}, so that the bit caches are the only caches of this {@link BooleanIndicator}
+     * and each call is recorded in {@link #getMetrics()} once.
+     */
+    @Override
+    public Boolean getValue(long index) {
+        return getBoolean(index);
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link #meteredCalculate(long)}.
+     */
+    protected final boolean meteredCalculateBoolean(long index) {
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return calculateBoolean(index);
+        }
+        final IndicatorCalculationEvent event = new IndicatorCalculationEvent();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final boolean value = calculateBoolean(index);
+        metrics.recordCalculation(this, index, event, startNanos);
+        return value;
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link Indicator#getValueConcurrently(long)}.
+     */
+    boolean getBooleanConcurrently(long index) {
+        final Object[] backfillValues = this.backfillValues;
+        if (backfillValues != null && index >= backfillFromIndex && index - backfillFromIndex < backfillValues.length) {
+            final Object value = backfillValues[(int) (index - backfillFromIndex)];
+            if (value != null) {
+                return (Boolean) value;
+            }
+        }
+        final long startIndex = series.getStartIndex();
+        if (index >= startIndex && index <= series.getEndIndex()) {
+            if (booleanCacheTracker.isCachedIndex(index)) {
+                return cachedBoolean;
+            }
+            if (booleanCacheSeries != null || booleanWindowCache != null) {
+                final int cached = getCachedBoolean(index);
+                if (cached != UNCACHED) {
+                    return cached == 1;
+                }
+            }
+        }
+        final long calculateIndex = index < startIndex ? 0 : index;
+        if (isStateless()) {
+            return calculateBoolean(calculateIndex);
+        }
+        synchronized (this) {
+            return calculateBoolean(calculateIndex);
+        }
+    }
+
+    /**
+     * Counts the <code>true</code> values of this {@link BooleanIndicator} from <code>fromIndex</code> to
+     * <code>toIndex</code> (inclusive). The result is identical to calling {@link #getBoolean(long)} for each index,
+     * but if {@link #isCaching()} is <code>true</code> and the cache can retain the range, the values before
+     * {@link Series#getEndIndex()} are calculated into the cache and counted with a population count of the cached
+     * bits, 64 values at a time, so repeated counts over overlapping windows do not loop over each index.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the number of <code>true</code> values
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link #getSeries()}
+     */
+    public long countTrue(long fromIndex, long toIndex) {
+        checkRange(fromIndex, toIndex);
+        final long endIndex = series.getEndIndex();
+        final long lastNonEndIndex = min(toIndex, endIndex - 1);
+        long count = toIndex == endIndex && getBoolean(endIndex) ? 1 : 0;
+        if (fromIndex > lastNonEndIndex) {
+            return count;
+        }
+        if (!concurrentReads && (booleanCacheSeries != null || booleanWindowCache != null)) {
+            long cachedCount = countCachedTrue(fromIndex, lastNonEndIndex);
+            if (cachedCount == UNCACHED && getCacheLength() > lastNonEndIndex - fromIndex) {
+                computeRangeSequentially(fromIndex, lastNonEndIndex, null, 0);
+                cachedCount = countCachedTrue(fromIndex, lastNonEndIndex);
+            }
+            if (cachedCount != UNCACHED) {
+                return count + cachedCount;
+            }
+        }
+        for (long index = fromIndex; index <= lastNonEndIndex; index++) {
+            if (getBoolean(index)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected void computeRangeSequentially(long fromIndex, long toIndex, @Nullable Object[] destination,
+            int destinationOffset) {
+        final boolean first = getBoolean(fromIndex);
+        if (destination != null) {
+            destination[destinationOffset] = first;
+        }
+        final long endIndex = series.getEndIndex();
+        final long lastNonEndIndex = min(toIndex, endIndex - 1);
+        if (booleanCacheSeries != null || booleanWindowCache != null) {
+            padBooleanCacheSeries();
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                final int cached = getCachedBoolean(index);
+                final boolean value;
+                if (cached == UNCACHED) {
+                    value = meteredCalculateBoolean(index);
+                    setCachedBoolean(index, value);
+                } else {
+                    value = cached == 1;
+                }
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        } else {
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                final boolean value = meteredCalculateBoolean(index);
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        }
+        if (toIndex == endIndex && fromIndex != endIndex) {
+            final boolean last = getBoolean(endIndex);
+            if (destination != null) {
+                destination[destinationOffset + (int) (endIndex - fromIndex)] = last;
+            }
+        }
+    }
+
+    @Override
+    void beginConcurrentReads() {
+        padBooleanCacheSeries();
+        super.beginConcurrentReads();
+    }
+
+    @Override
+    void cacheRange(long fromIndex, long toIndex, Object[] values, int valuesOffset) {
+        padBooleanCacheSeries();
+        for (long index = fromIndex; index <= toIndex; index++) {
+            final int valueIndex = valuesOffset + (int) (index - fromIndex);
+            final int cached = getCachedBoolean(index);
+            if (cached != UNCACHED) {
+                values[valueIndex] = cached == 1;
+            } else {
+                setCachedBoolean(index, (Boolean) values[valueIndex]);
+            }
+        }
+    }
+
+    /**
+     * The bit equivalent of {@link CacheSeries}, which stores whether each value is calculated in a second
+     * {@link CircularBitArray}.
+     */
+    protected final class BooleanCacheSeries extends BooleanSeries {
+
+        private final CircularBitArray calculatedValues;
+
+        private BooleanCacheSeries() {
+            super(series.getMaximumLength());
+            calculatedValues = new CircularBitArray(series.getMaximumLength());
+        }
+
+        private void addUncached() {
+            if (calculatedValues.size() == maximumLength) {
+                calculatedValues.removeFirst();
+            }
+            calculatedValues.add(false);
+            add(false);
+        }
+
+        private int getCached(long index) {
+            final int valueIndex = (int) (index - startIndex);
+            return calculatedValues.get(valueIndex) ? booleanValues.get(valueIndex) ? 1 : 0 : UNCACHED;
+        }
+
+        private void set(long index, boolean value) {
+            final int valueIndex = (int) (index - startIndex);
+            booleanValues.set(valueIndex, value);
+            calculatedValues.set(valueIndex, true);
+        }
+
+        private void setUncached(long index) {
+            calculatedValues.set((int) (index - startIndex), false);
+        }
+
+        private long countCachedTrue(long fromIndex, long toIndex) {
+            final int fromValueIndex = (int) (fromIndex - startIndex);
+            final int toValueIndex = (int) (toIndex - startIndex) + 1;
+            if (calculatedValues.countTrue(fromValueIndex, toValueIndex) != toValueIndex - fromValueIndex) {
+                return UNCACHED;
+            }
+            return booleanValues.countTrue(fromValueIndex, toValueIndex);
+        }
+    }
+
+    /**
+     * The bit equivalent of {@link WindowCache}. The slots are packed into <code>long</code> words, and each word is
+     * tagged with the cycle (<code>index / slotCount</code>) of the values it holds, so storing a value of another cycle
+     * clears the other values of its word. Since the values of a word that are cleared are at least
+     * <code>slotCount - 63</code> indices away, 63 more slots than {@link #length()} are allocated so that any window
+     * of up to {@link #length()} consecutive indices is retained.
+     */
+    protected final class BooleanWindowCache {
+
+        private final int length;
+        private final long slotCount;
+        private final long[] cycles;
+        private final long[] calculatedWords;
+        private final long[] valueWords;
+
+        private BooleanWindowCache(int length) {
+            this.length = length;
+            final int wordCount = (int) ((length + 2L * Long.SIZE - 2) / Long.SIZE);
+            slotCount = (long) wordCount * Long.SIZE;
+            cycles = new long[wordCount];
+            fill(cycles, -1);
+            calculatedWords = new long[wordCount];
+            valueWords = new long[wordCount];
+        }
+
+        private int length() {
+            return length;
+        }
+
+        private int word(long index) {
+            return (int) (index % slotCount / Long.SIZE);
+        }
+
+        private int get(long index) {
+            final int word = word(index);
+            if (cycles[word] != index / slotCount || (calculatedWords[word] & 1L << index) == 0) {
+                return UNCACHED;
+            }
+            return (valueWords[word] & 1L << index) != 0 ? 1 : 0;
+        }
+
+        private void set(long index, boolean value) {
+            final int word = word(index);
+            final long cycle = index / slotCount;
+            if (cycles[word] != cycle) {
+                cycles[word] = cycle;
+                calculatedWords[word] = 0;
+            }
+            final long bit = 1L << index;
+            calculatedWords[word] |= bit;
+            valueWords[word] = value ? valueWords[word] | bit : valueWords[word] & ~bit;
+        }
+
+        private void setUncached(long index) {
+            final int word = word(index);
+            if (cycles[word] == index / slotCount) {
+                calculatedWords[word] &= ~(1L << index);
+            }
+        }
+
+        private long countCachedTrue(long fromIndex, long toIndex) {
+            long count = 0;
+            for (long index = fromIndex; index <= toIndex; ) {
+                final int word = word(index);
+                // The indices up to the next multiple of 64 share the word and the cycle of 'index'.
+                final long wordToIndex = min(toIndex, index | Long.SIZE - 1);
+                final long mask = -1L << index & -1L >>> ~wordToIndex;
+                if (cycles[word] != index / slotCount || (calculatedWords[word] & mask) != mask) {
+                    return UNCACHED;
+                }
+                count += bitCount(valueWords[word] & mask);
+                index = wordToIndex + 1;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Ensures the {@link #booleanCacheSeries} indices follow the {@link #getSeries()} indices.
+     */
+    private void padBooleanCacheSeries() {
+        if (booleanCacheSeries != null) {
+            for (long count = booleanCacheSeries.getEndIndex(); count < series.getEndIndex(); count++) {
+                booleanCacheSeries.addUncached();
+            }
+        }
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link Indicator#getCachedValue(long)}.
+     *
+     * @return <code>1</code> or <code>0</code> for a cached <code>true</code> or <code>false</code>, or
+     * {@link #UNCACHED} if it isn't cached or is stale
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private int getCachedBoolean(long index) {
+        if (booleanCacheTracker.isEndValueStale(index)) {
+            return UNCACHED;
+        }
+        return booleanCacheSeries != null ? booleanCacheSeries.getCached(index) : booleanWindowCache.get(index);
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link Indicator#setCachedValue(long, Object)}.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private void setCachedBoolean(long index, boolean value) {
+        final long staleIndex = booleanCacheTracker.setCachedValueIndex(index);
+        if (staleIndex != -1) {
+            // The previous end index value was replaced before it became a historical index.
+            if (booleanCacheSeries != null) {
+                booleanCacheSeries.setUncached(staleIndex);
+            } else {
+                booleanWindowCache.setUncached(staleIndex);
+            }
+        }
+        if (booleanCacheSeries != null) {
+            booleanCacheSeries.set(index, value);
+        } else {
+            booleanWindowCache.set(index, value);
+        }
+    }
+
+    /**
+     * Counts the cached <code>true</code> values from <code>fromIndex</code> to <code>toIndex</code> (inclusive).
+     *
+     * @return the number of <code>true</code> values, or {@link #UNCACHED} if any value isn't cached or is stale
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private long countCachedTrue(long fromIndex, long toIndex) {
+        padBooleanCacheSeries();
+        if (booleanCacheTracker.isEndValueStale(fromIndex, toIndex)) {
+            return UNCACHED;
+        }
+        return booleanCacheSeries != null ? booleanCacheSeries.countCachedTrue(fromIndex, toIndex) :
+                booleanWindowCache.countCachedTrue(fromIndex, toIndex);
+    }
+
+    /**
+     * Permanently enables caching of this {@link BooleanIndicator}'s calculated <code>boolean</code> values. The cache
+     * stores two bits per index.
+     *
+     * @see Indicator#caching()
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Boolean>> A caching() {
+        if (booleanCacheSeries == null) {
+            booleanCacheSeries = new BooleanCacheSeries();
+            booleanWindowCache = null;
+            booleanCacheTracker.resetEndValue();
+        }
+        return (A) this;
+    }
+
+    /**
+     * The primitive <code>boolean</code> equivalent of {@link Indicator#caching(int)}.
+     *
+     * @see Indicator#caching(int)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Boolean>> A caching(int lookback) {
+        checkArgument(lookback >= 0, "'lookback' must be greater than or equal to zero!");
+        final long length = lookback + 1L;
+        if (length >= series.getMaximumLength()) {
+            return caching();
+        }
+        if (booleanCacheSeries == null && (booleanWindowCache == null || booleanWindowCache.length() < length)) {
+            booleanWindowCache = new BooleanWindowCache((int) length);
+            booleanCacheTracker.resetEndValue();
+        }
+        return (A) this;
+    }
+
+    @Override
+    protected void purgeCache() {
+        super.purgeCache();
+        if (booleanCacheSeries != null) {
+            booleanCacheSeries = new BooleanCacheSeries();
+        }
+        if (booleanWindowCache != null) {
+            booleanWindowCache = new BooleanWindowCache(booleanWindowCache.length());
+        }
+        booleanCacheTracker.reset();
+    }
+
+    @Override
+    public boolean isCaching() {
+        return booleanCacheSeries != null || booleanWindowCache != null;
+    }
+
+    @Override
+    public int getCacheLength() {
+        return booleanCacheSeries != null ? series.getMaximumLength() :
+                booleanWindowCache != null ? booleanWindowCache.length() : 0;
+    }
+}
@@ -0,0 +1,132 @@
+package trade.invision.indicators.indicators;
+
+import trade.invision.indicators.series.Series;
+
+/**
+ * {@link CacheTracker} tracks which index the single-value cache of an {@link Indicator} holds and which index of its
+ * cache holds a value that was calculated at {@link Series#getEndIndex()}, independently of how the values themselves
+ * are stored. {@link Indicator}, {@link DoubleIndicator}, and {@link BooleanIndicator} each store their values in
+ * their own representation and use a {@link CacheTracker} to decide whether those values are still valid. This class
+ * is not thread-safe.
+ */
+final class CacheTracker {
+
+    private final Series<?> series;
+    private long cachedIndex;
+    private long cachedAddCallCount;
+    /**
+     * The {@link Series#getEndIndex()} at the time the single-value cache was set. Since a {@link Series} only allows
+     * its last value to be replaced, the single-value cache remains valid after any modification of {@link #series} if
+     * {@link #cachedIndex} is less than this.
+     */
+    private long cachedEndIndex;
+    /**
+     * The index and the {@link Series#getAddCallCount()} at the time the most recent end index value in the cache was
+     * calculated, used to detect if {@link Series#replaceLast(Object)} has been called since.
+     */
+    private long endValueIndex;
+    private long endValueAddCallCount;
+
+    CacheTracker(Series<?> series) {
+        this.series = series;
+        reset();
+    }
+
+    /**
+     * Checks if the single-value cache holds a valid value for the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return <code>true</code> if the single-value cache holds the value at <code>index</code>
+     */
+    boolean isCachedIndex(long index) {
+        return index == cachedIndex && (index < cachedEndIndex || series.getAddCallCount() == cachedAddCallCount);
+    }
+
+    /**
+     * Records that the single-value cache now holds the value at the given <code>index</code>.
+     *
+     * @param index the index
+     */
+    void setCachedIndex(long index) {
+        cachedIndex = index;
+        cachedAddCallCount = series.getAddCallCount();
+        cachedEndIndex = series.getEndIndex();
+    }
+
+    /**
+     * Records that the value at the given <code>index</code> is about to be stored in the cache.
+     *
+     * @param index the index
+     *
+     * @return the index of the previous end index value, which was replaced before it became a historical index and
+     * must be removed from the cache, or <code>-1</code>
+     */
+    long setCachedValueIndex(long index) {
+        long staleIndex = -1;
+        if (index == series.getEndIndex()) {
+            if (endValueIndex != index && endValueIndex >= series.getStartIndex() && isEndValueStale(endValueIndex)) {
+                staleIndex = endValueIndex;
+            }
+            endValueIndex = index;
+            endValueAddCallCount = series.getAddCallCount();
+        } else if (index == endValueIndex) {
+            endValueIndex = -1;
+        }
+        return staleIndex;
+    }
+
+    /**
+     * Checks if the cached value at the given <code>index</code> was calculated while <code>index</code> was
+     * {@link Series#getEndIndex()} and {@link Series#replaceLast(Object)} has been called since. While
+     * <code>index</code> is still {@link Series#getEndIndex()}, any {@link Series#add(Object, boolean)} call replaces
+     * it. Otherwise, every {@link Series#add(Object, boolean)} call up to {@link Series#getLastAppendAddCallCount()}
+     * increments {@link Series#getAddCallCount()}, but only appends increment {@link Series#getEndIndex()}, so any
+     * difference between the two means a replacement has occurred. Replacements after the latest append can't affect
+     * <code>index</code>, so they are ignored.
+     *
+     * @param index the index
+     *
+     * @return <code>true</code> if the cached value at <code>index</code> is stale
+     */
+    boolean isEndValueStale(long index) {
+        if (index != endValueIndex) {
+            return false;
+        }
+        final long endIndex = series.getEndIndex();
+        return endIndex == endValueIndex ? series.getAddCallCount() != endValueAddCallCount :
+                series.getLastAppendAddCallCount() - endValueAddCallCount != endIndex - endValueIndex;
+    }
+
+    /**
+     * Checks if any cached value from <code>fromIndex</code> to <code>toIndex</code> (inclusive) is stale.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return <code>true</code> if a cached value in the range is stale
+     *
+     * @see #isEndValueStale(long)
+     */
+    boolean isEndValueStale(long fromIndex, long toIndex) {
+        return endValueIndex >= fromIndex && endValueIndex <= toIndex && isEndValueStale(endValueIndex);
+    }
+
+    /**
+     * Forgets the end index value, which must be called when the cache is replaced.
+     */
+    void resetEndValue() {
+        endValueIndex = -1;
+    }
+
+    /**
+     * Forgets the single-value cache and the end index value.
+     */
+    void reset() {
+        cachedIndex = -1;
+        cachedAddCallCount = -1;
+        cachedEndIndex = -1;
+        endValueIndex = -1;
+        endValueAddCallCount = -1;
+    }
+}
@@ -23,4 +23,10 @@ public abstract class CachelessIndicator<T> extends Indicator<T> {
     public <A extends Indicator<T>> A caching() {
         return (A) this;
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<T>> A caching(int lookback) {
+        return (A) this;
+    }
 }
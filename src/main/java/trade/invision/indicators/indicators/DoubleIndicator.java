@@ -0,0 +1,444 @@
+package trade.invision.indicators.indicators;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.series.DoubleSeries;
+import trade.invision.indicators.series.Series;
+import trade.invision.num.Num;
+
+import java.util.IdentityHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.lang.Math.min;
+import static java.util.Arrays.fill;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Objects.checkFromIndexSize;
+
+/**
+ * {@link DoubleIndicator} is an abstract {@link Num} {@link Indicator} class for {@link Indicator}s that perform their
+ * calculations on primitive <code>double</code>s instead of {@link Num}s. Consumers that call
+ * {@link #getDouble(long)} avoid all {@link Num} allocations, which is useful for high-frequency updates where garbage
+ * collection churn must be kept to a minimum. Since this class is a {@link Num} {@link Indicator}, it can be used
+ * anywhere a {@link Num} {@link Indicator} is expected, in which case {@link #getValue(long)} converts the
+ * <code>double</code> result to a {@link Num} using {@link #getSeries()} {@link Series#getNumFactory()}. This class is
+ * not thread-safe.
+ */
+public abstract class DoubleIndicator extends Indicator<Num> {
+
+    /**
+     * A <code>NaN</code> with a payload that is never produced by arithmetic, used to mark uncalculated indices in
+     * {@link #doubleCacheSeries}.
+     */
+    private static final long UNCACHED_BITS = 0x7FF8_DEAD_BEEF_CAFEL;
+    private static final double UNCACHED = longBitsToDouble(UNCACHED_BITS);
+
+    protected @Nullable DoubleCacheSeries doubleCacheSeries;
+    protected @Nullable DoubleWindowCache doubleWindowCache;
+    protected double cachedDouble;
+    /**
+     * Tracks the index of {@link #cachedDouble} and the end index value in {@link #doubleCacheSeries} or
+     * {@link #doubleWindowCache}.
+     */
+    final CacheTracker doubleCacheTracker;
+    /**
+     * The primitive <code>double</code> equivalent of {@link Indicator#backfillValues}.
+     */
+    @Nullable double[] backfillDoubles;
+
+    /**
+     * @see Indicator#Indicator(Series, int)
+     */
+    public DoubleIndicator(Series<?> series, int minimumStableIndex) {
+        super(series, minimumStableIndex);
+        doubleCacheTracker = new CacheTracker(series);
+    }
+
+    /**
+     * Performs the calculation of this {@link DoubleIndicator} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the result
+     */
+    protected abstract double calculateDouble(long index);
+
+    /**
+     * Converts the result of {@link #getDoubleUncounted(long)}, since {@link #getValue(long)} has already counted the
+     * call in {@link #metrics}.
+     */
+    @Override
+    protected Num calculate(long index) {
+        return numOf(getDoubleUncounted(index));
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link #getValue(long)} with identical caching semantics, except
+     * that the cache stores primitive <code>double</code>s.
+     *
+     * @param index the index
+     *
+     * @return the result
+     *
+     * @see #getValue(long)
+     */
+    public double getDouble(long index) {
+        if (concurrentReads) {
+            return getDoubleConcurrently(index);
+        }
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.calls++;
+        }
+        return getDoubleUncounted(index);
+    }
+
+    /**
+     * {@link #getDouble(long)} without counting the call in {@link #metrics} or checking for concurrent reads.
+     */
+    private double getDoubleUncounted(long index) {
+        final IndicatorMetrics metrics = this.metrics;
+        if (index > series.getEndIndex()) {
+            return meteredCalculateDouble(index);
+        } else if (index < series.getStartIndex()) {
+            return meteredCalculateDouble(0);
+        } else if (doubleCacheTracker.isCachedIndex(index)) {
+            if (metrics != null) {
+                metrics.cachedIndexHits++;
+            }
+            return cachedDouble;
+        } else {
+            double value;
+            if (doubleCacheSeries != null || doubleWindowCache != null) {
+                padDoubleCacheSeries();
+                value = getCachedDouble(index);
+                if (doubleToRawLongBits(value) == UNCACHED_BITS) {
+                    if (metrics != null) {
+                        metrics.cacheMisses++;
+                    }
+                    value = meteredCalculateDouble(index);
+                    setCachedDouble(index, value);
+                } else if (metrics != null) {
+                    metrics.cacheHits++;
+                }
+            } else {
+                value = meteredCalculateDouble(index);
+            }
+            doubleCacheTracker.setCachedIndex(index);
+            cachedDouble = value;
+            return value;
+        }
+    }
+
+    /**
+     * Calls {@link #calculate(long)} without recording the calculation, since {@link #calculate(long)} only converts
+     * the result of {@link #getDouble(long)}, which records calculations via {@link #meteredCalculateDouble(long)}.
+     */
+    @Override
+    protected Num meteredCalculate(long index) {
+        return calculate(index);
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link #meteredCalculate(long)}.
+     */
+    protected final double meteredCalculateDouble(long index) {
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return calculateDouble(index);
+        }
+        final IndicatorCalculationEvent event = new IndicatorCalculationEvent();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final double value = calculateDouble(index);
+        metrics.recordCalculation(this, index, event, startNanos);
+        return value;
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link Indicator#getValueConcurrently(long)}.
+     */
+    double getDoubleConcurrently(long index) {
+        final double[] backfillDoubles = this.backfillDoubles;
+        if (backfillDoubles != null && index >= backfillFromIndex &&
+                index - backfillFromIndex < backfillDoubles.length) {
+            return backfillDoubles[(int) (index - backfillFromIndex)];
+        }
+        final long startIndex = series.getStartIndex();
+        if (index >= startIndex && index <= series.getEndIndex()) {
+            if (doubleCacheTracker.isCachedIndex(index)) {
+                return cachedDouble;
+            }
+            if (doubleCacheSeries != null || doubleWindowCache != null) {
+                final double value = getCachedDouble(index);
+                if (doubleToRawLongBits(value) != UNCACHED_BITS) {
+                    return value;
+                }
+            }
+        }
+        final long calculateIndex = index < startIndex ? 0 : index;
+        if (isStateless()) {
+            return calculateDouble(calculateIndex);
+        }
+        synchronized (this) {
+            return calculateDouble(calculateIndex);
+        }
+    }
+
+    @Override
+    Num getValueConcurrently(long index) {
+        return numOf(getDoubleConcurrently(index));
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link #computeRange(long, long, Object[], int)}.
+     *
+     * @param fromIndex         the first index (inclusive)
+     * @param toIndex           the last index (inclusive)
+     * @param destination       the array to store the results in
+     * @param destinationOffset the index in <code>destination</code> to store the result of <code>fromIndex</code> at
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link #getSeries()} or
+     *                                   <code>destination</code> is too small
+     */
+    public void computeDoubleRange(long fromIndex, long toIndex, double[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex);
+        checkFromIndexSize(destinationOffset, toIndex - fromIndex + 1, destination.length);
+        computeDependencyRanges(fromIndex, toIndex, newSetFromMap(new IdentityHashMap<>()));
+        computeDoubleRangeSequentially(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    protected void computeRangeSequentially(long fromIndex, long toIndex, @Nullable Object[] destination,
+            int destinationOffset) {
+        if (destination == null) {
+            computeDoubleRangeSequentially(fromIndex, toIndex, null, 0);
+            return;
+        }
+        final double[] doubles = new double[(int) (toIndex - fromIndex + 1)];
+        computeDoubleRangeSequentially(fromIndex, toIndex, doubles, 0);
+        for (int index = 0; index < doubles.length; index++) {
+            destination[destinationOffset + index] = numOf(doubles[index]);
+        }
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link #computeRangeSequentially(long, long, Object[], int)}.
+     */
+    protected void computeDoubleRangeSequentially(long fromIndex, long toIndex, @Nullable double[] destination,
+            int destinationOffset) {
+        final double first = getDouble(fromIndex);
+        if (destination != null) {
+            destination[destinationOffset] = first;
+        }
+        final long endIndex = series.getEndIndex();
+        final long lastNonEndIndex = min(toIndex, endIndex - 1);
+        if (doubleCacheSeries != null || doubleWindowCache != null) {
+            padDoubleCacheSeries();
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                double value = getCachedDouble(index);
+                if (doubleToRawLongBits(value) == UNCACHED_BITS) {
+                    value = meteredCalculateDouble(index);
+                    setCachedDouble(index, value);
+                }
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        } else {
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                final double value = meteredCalculateDouble(index);
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        }
+        if (toIndex == endIndex && fromIndex != endIndex) {
+            final double last = getDouble(endIndex);
+            if (destination != null) {
+                destination[destinationOffset + (int) (endIndex - fromIndex)] = last;
+            }
+        }
+    }
+
+    @Override
+    void beginConcurrentReads() {
+        padDoubleCacheSeries();
+        super.beginConcurrentReads();
+    }
+
+    @Override
+    void backfillSequentially(long fromIndex, long toIndex) {
+        final double[] values = new double[(int) (toIndex - fromIndex + 1)];
+        computeDoubleRangeSequentially(fromIndex, toIndex, values, 0);
+        backfillFromIndex = fromIndex;
+        backfillDoubles = values;
+    }
+
+    @Override
+    void clearBackfill() {
+        super.clearBackfill();
+        backfillDoubles = null;
+    }
+
+    @Override
+    void cacheRange(long fromIndex, long toIndex, Object[] values, int valuesOffset) {
+        padDoubleCacheSeries();
+        for (long index = fromIndex; index <= toIndex; index++) {
+            final int valueIndex = valuesOffset + (int) (index - fromIndex);
+            final double cached = getCachedDouble(index);
+            if (doubleToRawLongBits(cached) != UNCACHED_BITS) {
+                values[valueIndex] = numOf(cached);
+            } else {
+                setCachedDouble(index, ((Num) values[valueIndex]).toDouble());
+            }
+        }
+    }
+
+    protected final class DoubleCacheSeries extends DoubleSeries {
+
+        private DoubleCacheSeries() {
+            super(series.getMaximumLength());
+        }
+
+        private void set(long index, double value) {
+            doubleValues.set((int) (index - startIndex), value);
+        }
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link WindowCache}.
+     */
+    protected final class DoubleWindowCache {
+
+        private final long[] indices;
+        private final double[] values;
+
+        private DoubleWindowCache(int length) {
+            indices = new long[length];
+            fill(indices, -1);
+            values = new double[length];
+        }
+
+        private int length() {
+            return indices.length;
+        }
+
+        private double get(long index) {
+            final int slot = (int) (index % indices.length);
+            return indices[slot] == index ? values[slot] : UNCACHED;
+        }
+
+        private void set(long index, double value) {
+            final int slot = (int) (index % indices.length);
+            indices[slot] = index;
+            values[slot] = value;
+        }
+    }
+
+    /**
+     * Ensures the {@link #doubleCacheSeries} indices follow the {@link #getSeries()} indices.
+     */
+    private void padDoubleCacheSeries() {
+        if (doubleCacheSeries != null) {
+            for (long count = doubleCacheSeries.getEndIndex(); count < series.getEndIndex(); count++) {
+                doubleCacheSeries.add(UNCACHED);
+            }
+        }
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link Indicator#getCachedValue(long)}.
+     *
+     * @return the cached value, or {@link #UNCACHED} if it isn't cached or is stale
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private double getCachedDouble(long index) {
+        if (doubleCacheTracker.isEndValueStale(index)) {
+            return UNCACHED;
+        }
+        return doubleCacheSeries != null ? doubleCacheSeries.getDouble(index) : doubleWindowCache.get(index);
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link Indicator#setCachedValue(long, Object)}.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private void setCachedDouble(long index, double value) {
+        final long staleIndex = doubleCacheTracker.setCachedValueIndex(index);
+        if (staleIndex != -1) {
+            // The previous end index value was replaced before it became a historical index.
+            if (doubleCacheSeries != null) {
+                doubleCacheSeries.set(staleIndex, UNCACHED);
+            } else if (doubleToRawLongBits(doubleWindowCache.get(staleIndex)) != UNCACHED_BITS) {
+                doubleWindowCache.set(staleIndex, UNCACHED);
+            }
+        }
+        if (doubleCacheSeries != null) {
+            doubleCacheSeries.set(index, value);
+        } else {
+            doubleWindowCache.set(index, value);
+        }
+    }
+
+    /**
+     * Permanently enables caching of this {@link DoubleIndicator}'s calculated <code>double</code> values. The cache
+     * stores primitive <code>double</code>s, so {@link #getValue(long)} still creates a new {@link Num} for each call
+     * that is not served by the single-value cache of {@link Indicator}.
+     *
+     * @see Indicator#caching()
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching() {
+        if (doubleCacheSeries == null) {
+            doubleCacheSeries = new DoubleCacheSeries();
+            doubleWindowCache = null;
+            doubleCacheTracker.resetEndValue();
+        }
+        return (A) this;
+    }
+
+    /**
+     * The primitive <code>double</code> equivalent of {@link Indicator#caching(int)}.
+     *
+     * @see Indicator#caching(int)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching(int lookback) {
+        checkArgument(lookback >= 0, "'lookback' must be greater than or equal to zero!");
+        final long length = lookback + 1L;
+        if (length >= series.getMaximumLength()) {
+            return caching();
+        }
+        if (doubleCacheSeries == null && (doubleWindowCache == null || doubleWindowCache.length() < length)) {
+            doubleWindowCache = new DoubleWindowCache((int) length);
+            doubleCacheTracker.resetEndValue();
+        }
+        return (A) this;
+    }
+
+    @Override
+    protected void purgeCache() {
+        super.purgeCache();
+        if (doubleCacheSeries != null) {
+            doubleCacheSeries = new DoubleCacheSeries();
+        }
+        if (doubleWindowCache != null) {
+            doubleWindowCache = new DoubleWindowCache(doubleWindowCache.length());
+        }
+        doubleCacheTracker.reset();
+    }
+
+    @Override
+    public boolean isCaching() {
+        return doubleCacheSeries != null || doubleWindowCache != null;
+    }
+
+    @Override
+    public int getCacheLength() {
+        return doubleCacheSeries != null ? series.getMaximumLength() :
+                doubleWindowCache != null ? doubleWindowCache.length() : 0;
+    }
+}
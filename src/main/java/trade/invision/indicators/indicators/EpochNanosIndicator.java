@@ -0,0 +1,53 @@
+package trade.invision.indicators.indicators;
+
+import trade.invision.indicators.series.EpochNanos;
+import trade.invision.indicators.series.Series;
+import trade.invision.indicators.series.bar.ColumnarBarSeries;
+
+import java.time.Instant;
+
+import static trade.invision.indicators.series.EpochNanos.ofEpochNanos;
+
+/**
+ * {@link EpochNanosIndicator} is an abstract {@link Instant} {@link CachelessIndicator} class for {@link Indicator}s
+ * that perform their calculations on the primitive <code>long</code> nanoseconds since the epoch of {@link Instant}s,
+ * as defined by {@link EpochNanos}. {@link #getEpochNanos(long)} is allocation-free, so chains of
+ * {@link EpochNanosIndicator}s, such as time filters on a {@link ColumnarBarSeries}, avoid an {@link Instant} per
+ * index. {@link #getValue(long)} remains available and converts the result to an {@link Instant}.
+ */
+public abstract class EpochNanosIndicator extends CachelessIndicator<Instant> {
+
+    /**
+     * @see CachelessIndicator#CachelessIndicator(Series, int)
+     */
+    public EpochNanosIndicator(Series<?> series, int minimumStableIndex) {
+        super(series, minimumStableIndex);
+    }
+
+    /**
+     * Performs the calculation of this {@link EpochNanosIndicator} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the result in nanoseconds since the epoch
+     */
+    protected abstract long calculateEpochNanos(long index);
+
+    @Override
+    protected Instant calculate(long index) {
+        return ofEpochNanos(getEpochNanos(index));
+    }
+
+    /**
+     * The primitive <code>long</code> equivalent of {@link #getValue(long)} in nanoseconds since the epoch.
+     *
+     * @param index the index
+     *
+     * @return the result in nanoseconds since the epoch
+     *
+     * @see #getValue(long)
+     */
+    public long getEpochNanos(long index) {
+        return calculateEpochNanos(index < series.getStartIndex() ? 0 : index);
+    }
+}
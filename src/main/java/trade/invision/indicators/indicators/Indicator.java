@@ -6,13 +6,36 @@ import trade.invision.indicators.series.Series;
 import trade.invision.num.Num;
 import trade.invision.num.NumFactory;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.log1p;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Arrays.fill;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.checkFromIndexSize;
 
 /**
  * {@link Indicator} is an abstract class for performing calculations on a {@link Series} or another {@link Indicator},
  * with optional result caching (disabled by default). An {@link Indicator} will implement some formula/algorithm and
  * provide the result of the calculation at a given <code>index</code>. Calculated values should be of an immutable
- * type. This class is not thread-safe.
+ * type. This class is not thread-safe, see {@link trade.invision.indicators.indicators.concurrent.ConcurrentIndicator}
+ * for concurrent reads.
  *
  * @param <T> the immutable type
  *
@@ -20,6 +43,67 @@ import java.math.BigDecimal;
  */
 public abstract class Indicator<T> {
 
+    /**
+     * The {@link #getLookback(double)} of an {@link Indicator} whose values depend on all previous values, such as a
+     * cumulative total.
+     */
+    public static final long UNBOUNDED_LOOKBACK = Long.MAX_VALUE;
+
+    /**
+     * The {@link Indicator} and {@link Indicator} array instance fields of each {@link Indicator} class, including
+     * inherited fields, used for the default {@link #getDependencies()}.
+     */
+    private static final ClassValue<List<Field>> DEPENDENCY_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != Indicator.class && current != BooleanIndicator.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    final Class<?> fieldType = field.getType();
+                    if (!Modifier.isStatic(field.getModifiers()) && (Indicator.class.isAssignableFrom(fieldType) ||
+                            fieldType.isArray() && Indicator.class.isAssignableFrom(fieldType.getComponentType()))) {
+                        try {
+                            field.setAccessible(true);
+                        } catch (InaccessibleObjectException inaccessibleObjectException) {
+                            throw new IllegalStateException(format("'%s' must override 'getDependencies()', since " +
+                                    "its fields are not accessible!", type.getName()), inaccessibleObjectException);
+                        }
+                        fields.add(field);
+                    }
+                }
+            }
+            return unmodifiableList(fields);
+        }
+    };
+
+    /**
+     * Whether each {@link Indicator} class is stateless by default, used for {@link #isStateless()}. A class is
+     * considered stateless if it is not a {@link CachingIndicator} or a {@link DoubleIndicator} and all of its instance
+     * fields, including inherited fields, are final and not arrays. The cache fields of {@link BooleanIndicator} are
+     * excluded like those of {@link Indicator}, since they are not modified while {@link #concurrentReads} is
+     * <code>true</code>.
+     */
+    private static final ClassValue<Boolean> STATELESS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (CachingIndicator.class.isAssignableFrom(type) || DoubleIndicator.class.isAssignableFrom(type)) {
+                return false;
+            }
+            for (Class<?> current = type; current != Indicator.class && current != BooleanIndicator.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) &&
+                            (!Modifier.isFinal(modifiers) || field.getType().isArray())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    };
+
     /**
      * The {@link Series} this {@link Indicator} may use in calculations.
      */
@@ -30,9 +114,24 @@ public abstract class Indicator<T> {
      */
     protected final @Getter int minimumStableIndex;
     protected @Nullable CacheSeries cacheSeries;
-    protected long cachedIndex;
+    protected @Nullable WindowCache windowCache;
     protected @Nullable T cachedValue;
-    protected long cachedAddCallCount;
+    /**
+     * Tracks the index of {@link #cachedValue} and the end index value in {@link #cacheSeries} or {@link #windowCache}.
+     */
+    final CacheTracker cacheTracker;
+    protected @Nullable IndicatorMetrics metrics;
+    private @Nullable List<Indicator<?>> dependencies;
+    /**
+     * <code>true</code> while a {@link ParallelBackfill} reads this {@link Indicator} from several threads, in which
+     * case {@link #getValue(long)} does not modify any state.
+     */
+    boolean concurrentReads;
+    /**
+     * The values calculated by a {@link ParallelBackfill} from {@link #backfillFromIndex}, or <code>null</code>.
+     */
+    @Nullable Object[] backfillValues;
+    long backfillFromIndex;
 
     /**
      * Instantiates a new {@link Indicator}.
@@ -43,8 +142,7 @@ public abstract class Indicator<T> {
     public Indicator(Series<?> series, int minimumStableIndex) {
         this.series = series;
         this.minimumStableIndex = minimumStableIndex;
-        cachedIndex = -1;
-        cachedAddCallCount = -1;
+        cacheTracker = new CacheTracker(series);
     }
 
     /**
@@ -58,13 +156,16 @@ public abstract class Indicator<T> {
 
     /**
      * Computes the value of this {@link Indicator} at the given <code>index</code>. Regardless of {@link #isCaching()},
-     * if {@link #getSeries()} has not been modified since the previous method call was invoked with the same
-     * <code>index</code> as the current method call, then this {@link Indicator} does not recalculate the value for
-     * <code>index</code> and a cached value is returned. If {@link #isCaching()} is <code>true</code>, then the cached
-     * value for <code>index</code> is returned if it has been previously calculated, except if <code>index</code> is
-     * equal to {@link #getSeries()} {@link Series#getEndIndex()} and {@link #getSeries()} has changed, then the value
-     * is recalculated and the cache is updated. If <code>index</code> is greater than {@link #getSeries()}
-     * {@link Series#getEndIndex()}, then the calculation is attempted, but may throw an
+     * if the previous method call was invoked with the same <code>index</code> as the current method call and either
+     * {@link #getSeries()} has not been modified since or <code>index</code> was less than {@link #getSeries()}
+     * {@link Series#getEndIndex()} at the time of the previous method call, then this {@link Indicator} does not
+     * recalculate the value for <code>index</code> and a cached value is returned. If {@link #isCaching()} is
+     * <code>true</code>, then the cached value for <code>index</code> is returned if it has been previously calculated,
+     * except if <code>index</code> is equal to {@link #getSeries()} {@link Series#getEndIndex()} and
+     * {@link #getSeries()} has changed since the value was calculated, then the value is recalculated and the cache is
+     * updated. Since a {@link Series} only allows its last value to be replaced, only the end index is ever
+     * recalculated due to a modification of {@link #getSeries()}. If <code>index</code> is greater than
+     * {@link #getSeries()} {@link Series#getEndIndex()}, then the calculation is attempted, but may throw an
      * {@link IndexOutOfBoundsException}. If <code>index</code> is less than {@link #getSeries()}
      * {@link Series#getStartIndex()}, then <code>0</code> is used to avoid calculating on a value that has already been
      * removed from {@link #getSeries()} and to use this {@link Indicator}'s default first value so that a
@@ -77,50 +178,597 @@ public abstract class Indicator<T> {
      * @see #caching()
      */
     public T getValue(long index) {
+        if (concurrentReads) {
+            return getValueConcurrently(index);
+        }
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.calls++;
+        }
         if (index > series.getEndIndex()) {
-            return calculate(index);
+            return meteredCalculate(index);
         } else if (index < series.getStartIndex()) {
-            return calculate(0);
-        } else if (index == cachedIndex && series.getAddCallCount() == cachedAddCallCount) {
+            return meteredCalculate(0);
+        } else if (cacheTracker.isCachedIndex(index)) {
+            if (metrics != null) {
+                metrics.cachedIndexHits++;
+            }
             return cachedValue;
         } else {
             T value;
-            if (cacheSeries != null) {
-                // Ensure the 'cacheSeries' indices follow the 'series' indices.
-                for (long count = cacheSeries.getEndIndex(); count < series.getEndIndex(); count++) {
-                    cacheSeries.add(null);
-                }
-                if (index == series.getEndIndex() && series.getAddCallCount() != cachedAddCallCount) {
-                    value = calculate(index);
-                    cacheSeries.replaceLast(value);
-                } else {
-                    value = cacheSeries.get(index);
-                    if (value == null) {
-                        value = calculate(index);
-                        cacheSeries.set(index, value);
+            if (cacheSeries != null || windowCache != null) {
+                padCacheSeries();
+                value = getCachedValue(index);
+                if (value == null) {
+                    if (metrics != null) {
+                        metrics.cacheMisses++;
                     }
+                    value = meteredCalculate(index);
+                    setCachedValue(index, value);
+                } else if (metrics != null) {
+                    metrics.cacheHits++;
                 }
             } else {
-                value = calculate(index);
+                value = meteredCalculate(index);
             }
-            cachedIndex = index;
+            cacheTracker.setCachedIndex(index);
             cachedValue = value;
-            cachedAddCallCount = series.getAddCallCount();
             return value;
         }
     }
 
+    /**
+     * Calls {@link #calculate(long)} and, if {@link #isInstrumenting()} is <code>true</code>, records the calculation
+     * in {@link #metrics}.
+     *
+     * @param index the index
+     *
+     * @return the result
+     */
+    protected T meteredCalculate(long index) {
+        final IndicatorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return calculate(index);
+        }
+        final IndicatorCalculationEvent event = new IndicatorCalculationEvent();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final T value = calculate(index);
+        metrics.recordCalculation(this, index, event, startNanos);
+        return value;
+    }
+
+    /**
+     * The equivalent of {@link #getValue(long)} while {@link #concurrentReads} is <code>true</code>. This only reads the
+     * {@link #backfillValues}, the single-value cache, and the cache, and calculates missing values without storing
+     * them or recording them in {@link #metrics}. Since {@link #calculate(long)} of an {@link Indicator} that is not
+     * {@link #isStateless()} may modify its state, such calculations are serialized.
+     *
+     * @param index the index
+     *
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    T getValueConcurrently(long index) {
+        final Object[] backfillValues = this.backfillValues;
+        if (backfillValues != null && index >= backfillFromIndex && index - backfillFromIndex < backfillValues.length) {
+            final T value = (T) backfillValues[(int) (index - backfillFromIndex)];
+            if (value != null) {
+                return value;
+            }
+        }
+        final long startIndex = series.getStartIndex();
+        if (index >= startIndex && index <= series.getEndIndex()) {
+            if (cacheTracker.isCachedIndex(index)) {
+                return cachedValue;
+            }
+            if (cacheSeries != null || windowCache != null) {
+                final T value = getCachedValue(index);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        final long calculateIndex = index < startIndex ? 0 : index;
+        if (isStateless()) {
+            return calculate(calculateIndex);
+        }
+        synchronized (this) {
+            return calculate(calculateIndex);
+        }
+    }
+
+    /**
+     * Calls {@link #computeRange(long, long, Object[], int)} with a new array and returns it as a {@link List}.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the {@link List} of results, where the first element is the result at <code>fromIndex</code>
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> computeRange(long fromIndex, long toIndex) {
+        final Object[] destination = new Object[(int) (toIndex - fromIndex + 1)];
+        computeRangeInto(fromIndex, toIndex, destination, 0);
+        return (List<T>) Arrays.asList(destination);
+    }
+
+    /**
+     * Calls {@link #computeRange(long, long)} and adds each result to the given <code>destination</code> {@link Series}
+     * in index order.
+     *
+     * @param fromIndex   the first index (inclusive)
+     * @param toIndex     the last index (inclusive)
+     * @param destination the {@link Series} to add the results to
+     */
+    public void computeRange(long fromIndex, long toIndex, Series<T> destination) {
+        for (T value : computeRange(fromIndex, toIndex)) {
+            destination.add(value);
+        }
+    }
+
+    /**
+     * Computes the values of this {@link Indicator} for every index from <code>fromIndex</code> to
+     * <code>toIndex</code> (inclusive) in one sequential pass and stores them in the given preallocated
+     * <code>destination</code> array, starting at <code>destinationOffset</code>. The results are identical to calling
+     * {@link #getValue(long)} for each index in ascending order, but the range is first pushed down to
+     * {@link #getDependencies()} so that each {@link #isCaching()} {@link Indicator} in the dependency graph is
+     * evaluated over the range exactly once, and the {@link #getValue(long)} checks, the {@link CacheSeries} padding,
+     * and the {@link RecursiveIndicator} catch-up are performed once per range instead of once per index. This is
+     * useful for backfilling a long history.
+     *
+     * @param fromIndex         the first index (inclusive)
+     * @param toIndex           the last index (inclusive)
+     * @param destination       the array to store the results in
+     * @param destinationOffset the index in <code>destination</code> to store the result of <code>fromIndex</code> at
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link #getSeries()} or
+     *                                   <code>destination</code> is too small
+     */
+    public void computeRange(long fromIndex, long toIndex, T[] destination, int destinationOffset) {
+        computeRangeInto(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    private void computeRangeInto(long fromIndex, long toIndex, Object[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex);
+        checkFromIndexSize(destinationOffset, toIndex - fromIndex + 1, destination.length);
+        computeDependencyRanges(fromIndex, toIndex, newSetFromMap(new IdentityHashMap<>()));
+        computeRangeSequentially(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    void checkRange(long fromIndex, long toIndex) {
+        if (fromIndex > toIndex || fromIndex < series.getStartIndex() || toIndex > series.getEndIndex()) {
+            throw new IndexOutOfBoundsException(format("startIndex=%d, endIndex=%d, fromIndex=%d, toIndex=%d",
+                    series.getStartIndex(), series.getEndIndex(), fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Pushes the given range down the dependency graph in post-order so that every {@link #isCaching()} dependency
+     * has the range cached before its consumers are evaluated. Dependencies whose {@link #getCacheLength()} is shorter
+     * than the range are not evaluated since they would not retain the results, but their own dependencies are still
+     * visited. Shared dependencies are visited once.
+     */
+    void computeDependencyRanges(long fromIndex, long toIndex, Set<Indicator<?>> visited) {
+        for (Indicator<?> dependency : getDependencies()) {
+            if (!visited.add(dependency)) {
+                continue;
+            }
+            final Series<?> dependencySeries = dependency.getSeries();
+            final long dependencyFromIndex = max(fromIndex, dependencySeries.getStartIndex());
+            final long dependencyToIndex = min(toIndex, dependencySeries.getEndIndex());
+            if (dependencyFromIndex > dependencyToIndex) {
+                continue;
+            }
+            dependency.computeDependencyRanges(dependencyFromIndex, dependencyToIndex, visited);
+            if (dependency.getCacheLength() > dependencyToIndex - dependencyFromIndex) {
+                dependency.computeRangeSequentially(dependencyFromIndex, dependencyToIndex, null, 0);
+            }
+        }
+    }
+
+    /**
+     * Computes the values of this {@link Indicator} for every index from <code>fromIndex</code> to
+     * <code>toIndex</code> (inclusive) in ascending order, without validating the range. The first index and
+     * {@link Series#getEndIndex()} use {@link #getValue(long)} so that recursive catch-up and end index recalculation
+     * behave exactly as they would otherwise, and all other indices bypass {@link #getValue(long)}.
+     *
+     * @param fromIndex         the first index (inclusive)
+     * @param toIndex           the last index (inclusive)
+     * @param destination       the array to store the results in, or <code>null</code> to only populate the cache
+     * @param destinationOffset the index in <code>destination</code> to store the result of <code>fromIndex</code> at
+     */
+    protected void computeRangeSequentially(long fromIndex, long toIndex, @Nullable Object[] destination,
+            int destinationOffset) {
+        final T first = getValue(fromIndex);
+        if (destination != null) {
+            destination[destinationOffset] = first;
+        }
+        final long endIndex = series.getEndIndex();
+        final long lastNonEndIndex = min(toIndex, endIndex - 1);
+        if (cacheSeries != null || windowCache != null) {
+            padCacheSeries();
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                T value = getCachedValue(index);
+                if (value == null) {
+                    value = meteredCalculate(index);
+                    setCachedValue(index, value);
+                }
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        } else {
+            for (long index = fromIndex + 1; index <= lastNonEndIndex; index++) {
+                final T value = meteredCalculate(index);
+                if (destination != null) {
+                    destination[destinationOffset + (int) (index - fromIndex)] = value;
+                }
+            }
+        }
+        if (toIndex == endIndex && fromIndex != endIndex) {
+            final T last = getValue(endIndex);
+            if (destination != null) {
+                destination[destinationOffset + (int) (endIndex - fromIndex)] = last;
+            }
+        }
+    }
+
+    /**
+     * Calls {@link #computeRangeParallel(long, long, ForkJoinPool)} with {@link ForkJoinPool#commonPool()}.
+     */
+    public List<T> computeRangeParallel(long fromIndex, long toIndex) {
+        return computeRangeParallel(fromIndex, toIndex, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the values of this {@link Indicator} for every index from <code>fromIndex</code> to
+     * <code>toIndex</code> (inclusive) like {@link #computeRange(long, long)}, but splits the work across the threads
+     * of the given {@link ForkJoinPool}. The {@link Indicator}s in the dependency graph are evaluated one at a time in
+     * topological order. Each {@link Indicator} that {@link #isParallelizable()} is evaluated in chunks of the range
+     * concurrently, each {@link AffineRecursiveIndicator} is evaluated with a parallel prefix scan, and all other
+     * {@link Indicator}s are evaluated sequentially, as in {@link #computeRange(long, long)}.
+     * The values of {@link Indicator}s that are read concurrently, are not {@link #isStateless()}, and cannot retain the
+     * range in their cache are retained for the duration of this call, so this may use memory proportional to the
+     * range for each such {@link Indicator}. This is useful for backfilling a long history on a multicore machine.
+     * <p>
+     * The values of {@link #isStateless()} {@link Indicator}s are identical to sequential evaluation. Windowed
+     * {@link Indicator}s, such as {@link trade.invision.indicators.indicators.cumulative.CumulativeSum}, start each chunk
+     * with a calculation over the whole window, as {@link #getValue(long)} does at a non-consecutive index, which is
+     * identical to sequential evaluation whenever the {@link Num} arithmetic is exact, and so are the values of
+     * {@link AffineRecursiveIndicator}s. {@link #getSeries()} must not be modified during this call, and the
+     * calculations performed concurrently are not recorded in {@link #getMetrics()}.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     * @param pool      the {@link ForkJoinPool} to perform the calculations on
+     *
+     * @return the {@link List} of results, where the first element is the result at <code>fromIndex</code>
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link #getSeries()}
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> computeRangeParallel(long fromIndex, long toIndex, ForkJoinPool pool) {
+        checkRange(fromIndex, toIndex);
+        final Object[] destination = new Object[(int) (toIndex - fromIndex + 1)];
+        new ParallelBackfill(this, fromIndex, toIndex, pool).compute(destination);
+        return (List<T>) Arrays.asList(destination);
+    }
+
+    /**
+     * Checks if {@link #calculate(long)} only reads the final fields of this {@link Indicator} and the values of
+     * {@link #getSeries()} and {@link #getDependencies()}, so that it may be called concurrently. By default, this is
+     * <code>true</code> if this {@link Indicator} is neither a {@link CachingIndicator} nor a {@link DoubleIndicator}
+     * and all of its instance fields are final and not arrays.
+     *
+     * @return <code>true</code> if this {@link Indicator} is stateless, <code>false</code> otherwise
+     */
+    public boolean isStateless() {
+        return STATELESS.get(getClass());
+    }
+
+    /**
+     * Checks if {@link #calculateChunk(long, long, Object[], int)} may be called concurrently for disjoint ranges by
+     * {@link #computeRangeParallel(long, long, ForkJoinPool)}. By default, this is {@link #isStateless()}.
+     *
+     * @return <code>true</code> if this {@link Indicator} is parallelizable, <code>false</code> otherwise
+     */
+    protected boolean isParallelizable() {
+        return isStateless();
+    }
+
+    /**
+     * Calculates the values of this {@link Indicator} for every index from <code>fromIndex</code> to
+     * <code>toIndex</code> (inclusive) as one chunk of {@link #computeRangeParallel(long, long, ForkJoinPool)}. This
+     * is called concurrently for disjoint ranges before {@link Series#getEndIndex()}, so any incremental state must be
+     * local to the call. The default implementation calls {@link #calculate(long)} for each index.
+     *
+     * @param fromIndex         the first index (inclusive)
+     * @param toIndex           the last index (inclusive)
+     * @param destination       the array to store the results in
+     * @param destinationOffset the index in <code>destination</code> to store the result of <code>fromIndex</code> at
+     */
+    protected void calculateChunk(long fromIndex, long toIndex, Object[] destination, int destinationOffset) {
+        for (long index = fromIndex; index <= toIndex; index++) {
+            destination[destinationOffset + (int) (index - fromIndex)] = calculate(index);
+        }
+    }
+
+    /**
+     * Sets {@link #concurrentReads} after padding the cache, so that {@link #getValueConcurrently(long)} never
+     * modifies it.
+     */
+    void beginConcurrentReads() {
+        padCacheSeries();
+        concurrentReads = true;
+    }
+
+    void endConcurrentReads() {
+        concurrentReads = false;
+    }
+
+    /**
+     * Computes the values from <code>fromIndex</code> to <code>toIndex</code> (inclusive) sequentially and retains
+     * them as {@link #backfillValues}.
+     */
+    void backfillSequentially(long fromIndex, long toIndex) {
+        final Object[] values = new Object[(int) (toIndex - fromIndex + 1)];
+        computeRangeSequentially(fromIndex, toIndex, values, 0);
+        backfillFromIndex = fromIndex;
+        backfillValues = values;
+    }
+
+    void clearBackfill() {
+        backfillValues = null;
+    }
+
+    /**
+     * @return <code>true</code> if the value at the given <code>index</code> is in the cache and isn't stale
+     */
+    boolean isCached(long index) {
+        return (cacheSeries != null && index <= cacheSeries.getEndIndex() || windowCache != null) &&
+                index >= series.getStartIndex() && index <= series.getEndIndex() && getCachedValue(index) != null;
+    }
+
+    /**
+     * Stores the given chunk results from <code>fromIndex</code> to <code>toIndex</code> (inclusive) in the cache.
+     * Values that are already cached take precedence and replace the given results, so that the results are identical
+     * to sequential evaluation.
+     */
+    @SuppressWarnings("unchecked")
+    void cacheRange(long fromIndex, long toIndex, Object[] values, int valuesOffset) {
+        padCacheSeries();
+        for (long index = fromIndex; index <= toIndex; index++) {
+            final int valueIndex = valuesOffset + (int) (index - fromIndex);
+            final T cached = getCachedValue(index);
+            if (cached != null) {
+                values[valueIndex] = cached;
+            } else {
+                setCachedValue(index, (T) values[valueIndex]);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link #topologicalOrder(Collection)} with the given {@link Indicator}.
+     *
+     * @param indicator the root {@link Indicator}
+     *
+     * @return the {@link List} of {@link Indicator}s in topological order
+     */
+    static List<Indicator<?>> topologicalOrder(Indicator<?> indicator) {
+        return topologicalOrder(List.of(indicator));
+    }
+
+    /**
+     * Gets the given {@link Indicator}s and all of their transitive {@link #getDependencies()}, where every
+     * {@link Indicator} comes after all of its dependencies and shared dependencies appear once.
+     *
+     * @param indicators the root {@link Indicator}s
+     *
+     * @return the {@link List} of {@link Indicator}s in topological order
+     */
+    public static List<Indicator<?>> topologicalOrder(Collection<? extends Indicator<?>> indicators) {
+        final List<Indicator<?>> order = new ArrayList<>();
+        final Set<Indicator<?>> visited = newSetFromMap(new IdentityHashMap<>());
+        for (Indicator<?> indicator : indicators) {
+            visitTopologically(indicator, visited, order);
+        }
+        return order;
+    }
+
+    private static void visitTopologically(Indicator<?> indicator, Set<Indicator<?>> visited,
+            List<Indicator<?>> order) {
+        if (visited.add(indicator)) {
+            for (Indicator<?> dependency : indicator.getDependencies()) {
+                visitTopologically(dependency, visited, order);
+            }
+            order.add(indicator);
+        }
+    }
+
+    /**
+     * Gets the number of indices before a given <code>index</code> that the calculation of this {@link Indicator} at
+     * <code>index</code> reads from its {@link #getDependencies()} or {@link #getSeries()}, not including the lookbacks
+     * of the {@link #getDependencies()} themselves. For {@link Indicator}s with an infinite memory that decays, such as
+     * an exponential moving average, this is the number of indices after which the total weight of all earlier values
+     * is at most <code>tolerance</code>.
+     * <p>
+     * The default implementation assumes that {@link #getMinimumStableIndex()} includes the largest
+     * {@link #getMinimumStableIndex()} of the {@link #getDependencies()}, which is the case for {@link Indicator}s
+     * that only combine the values of their {@link #getDependencies()} at <code>index</code>, and returns the
+     * difference. {@link Indicator}s that read a window of values override this.
+     *
+     * @param tolerance the maximum total weight of the values before the lookback, between <code>0</code> and
+     *                  <code>1</code> (exclusive)
+     *
+     * @return the lookback, or {@link #UNBOUNDED_LOOKBACK}
+     *
+     * @see LookbackAnalysis
+     */
+    public long getLookback(double tolerance) {
+        int dependencyMinimumStableIndex = 0;
+        for (Indicator<?> dependency : getDependencies()) {
+            dependencyMinimumStableIndex = max(dependencyMinimumStableIndex, dependency.getMinimumStableIndex());
+        }
+        return max(0, minimumStableIndex - dependencyMinimumStableIndex);
+    }
+
+    /**
+     * Gets the number of iterations after which the total weight of the initial value of the recurrence
+     * <code>value = previousValue + multiplier * (input - previousValue)</code> is at most <code>tolerance</code>.
+     *
+     * @param multiplier the multiplier (smoothing factor)
+     * @param tolerance  the tolerance
+     *
+     * @return the number of iterations, or {@link #UNBOUNDED_LOOKBACK}
+     */
+    protected static long convergenceLookback(double multiplier, double tolerance) {
+        if (multiplier >= 1) {
+            return 0;
+        } else if (multiplier <= 0) {
+            return UNBOUNDED_LOOKBACK;
+        }
+        return (long) ceil(log(tolerance) / log1p(-multiplier));
+    }
+
+    /**
+     * Gets the {@link Indicator}s that this {@link Indicator} directly performs calculations on. The result must
+     * include every {@link Indicator} that {@link #calculate(long)} may read, since {@link #computeRange(long, long)},
+     * {@link #computeRangeParallel(long, long, ForkJoinPool)}, {@link LookbackAnalysis}, and
+     * {@link trade.invision.indicators.stream.StreamingEngine} traverse the dependency graph with this method and
+     * silently skip any {@link Indicator} missing from it.
+     * <p>
+     * By default, the dependencies are discovered once, via reflection, from the non-<code>null</code>
+     * {@link Indicator} and {@link Indicator} array instance fields of this {@link Indicator}'s class hierarchy, which
+     * is how all {@link Indicator}s in this library hold their inputs. Subclasses that hold inputs elsewhere, such as
+     * in a {@link java.util.Collection}, a lambda, or another object, or that are in a named module that does not open
+     * their package to this library, must override this method to return their inputs explicitly, and should return
+     * the same unmodifiable {@link List} on every call.
+     *
+     * @return the unmodifiable {@link List} of dependencies
+     *
+     * @throws IllegalStateException thrown by the default implementation if the fields of this {@link Indicator}'s
+     *                               class hierarchy are not accessible
+     */
+    public List<Indicator<?>> getDependencies() {
+        if (dependencies == null) {
+            final List<Indicator<?>> discovered = new ArrayList<>();
+            for (Field field : DEPENDENCY_FIELDS.get(getClass())) {
+                try {
+                    final Object value = field.get(this);
+                    if (value instanceof Indicator<?>[] array) {
+                        for (Indicator<?> dependency : array) {
+                            addDependency(discovered, dependency);
+                        }
+                    } else {
+                        addDependency(discovered, (Indicator<?>) value);
+                    }
+                } catch (IllegalAccessException illegalAccessException) {
+                    throw new IllegalStateException(illegalAccessException);
+                }
+            }
+            dependencies = unmodifiableList(discovered);
+        }
+        return dependencies;
+    }
+
+    private void addDependency(List<Indicator<?>> discovered, @Nullable Indicator<?> dependency) {
+        if (dependency != null && dependency != this && !discovered.contains(dependency)) {
+            discovered.add(dependency);
+        }
+    }
+
     protected final class CacheSeries extends Series<T> {
 
         private CacheSeries() {
             super(series.getMaximumLength());
         }
 
-        private void set(long index, T value) {
+        private void set(long index, @Nullable T value) {
             values.set((int) (index - startIndex), value);
         }
     }
 
+    /**
+     * {@link WindowCache} is a direct-mapped cache of calculated values, where the value of an index can only be stored
+     * in the slot at <code>index % length</code>. Unlike {@link CacheSeries}, which is aligned with the indices of
+     * {@link #getSeries()}, it retains any window of up to <code>length</code> consecutive indices, regardless of where
+     * the window is in {@link #getSeries()}, so sequential backfills are served as well as live updates.
+     */
+    protected final class WindowCache {
+
+        private final long[] indices;
+        private final @Nullable Object[] values;
+
+        private WindowCache(int length) {
+            indices = new long[length];
+            fill(indices, -1);
+            values = new Object[length];
+        }
+
+        private int length() {
+            return indices.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        private @Nullable T get(long index) {
+            final int slot = (int) (index % indices.length);
+            return indices[slot] == index ? (T) values[slot] : null;
+        }
+
+        private void set(long index, @Nullable T value) {
+            final int slot = (int) (index % indices.length);
+            indices[slot] = index;
+            values[slot] = value;
+        }
+    }
+
+    /**
+     * Ensures the {@link #cacheSeries} indices follow the {@link #getSeries()} indices.
+     */
+    private void padCacheSeries() {
+        if (cacheSeries != null) {
+            for (long count = cacheSeries.getEndIndex(); count < series.getEndIndex(); count++) {
+                cacheSeries.add(null);
+            }
+        }
+    }
+
+    /**
+     * Gets the value at the given <code>index</code> from {@link #cacheSeries} or {@link #windowCache}.
+     *
+     * @return the cached value, or <code>null</code> if it isn't cached or is stale
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private @Nullable T getCachedValue(long index) {
+        if (cacheTracker.isEndValueStale(index)) {
+            return null;
+        }
+        return cacheSeries != null ? cacheSeries.get(index) : windowCache.get(index);
+    }
+
+    /**
+     * Stores the given <code>value</code> in {@link #cacheSeries} or {@link #windowCache}.
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private void setCachedValue(long index, T value) {
+        final long staleIndex = cacheTracker.setCachedValueIndex(index);
+        if (staleIndex != -1) {
+            // The previous end index value was replaced before it became a historical index.
+            if (cacheSeries != null) {
+                cacheSeries.set(staleIndex, null);
+            } else if (windowCache.get(staleIndex) != null) {
+                windowCache.set(staleIndex, null);
+            }
+        }
+        if (cacheSeries != null) {
+            cacheSeries.set(index, value);
+        } else {
+            windowCache.set(index, value);
+        }
+    }
+
     /**
      * Permanently enables caching of this {@link Indicator}'s calculated values in order to optimize
      * {@link #getValue(long)} for non-ending indices. The cache should be enabled when consumers of this
@@ -131,17 +779,50 @@ public abstract class Indicator<T> {
      * @return this {@link Indicator}, for method chaining
      *
      * @see #getValue(long)
+     * @see #caching(int)
      */
     @SuppressWarnings("unchecked")
     public <A extends Indicator<T>> A caching() {
         if (cacheSeries == null) {
             cacheSeries = new CacheSeries();
+            windowCache = null;
+            cacheTracker.resetEndValue();
+        }
+        return (A) this;
+    }
+
+    /**
+     * Permanently enables caching of this {@link Indicator}'s calculated values, but only retains the values of the
+     * most recently calculated window of <code>lookback + 1</code> consecutive indices instead of {@link #caching()}
+     * retaining {@link #getSeries()} {@link Series#getMaximumLength()} values. This should be used by consumers that
+     * only read the values from <code>index - lookback</code> to <code>index</code> when calculating at
+     * <code>index</code>, which keeps the memory of deep {@link Indicator} graphs proportional to their lookbacks
+     * instead of to {@link Series#getMaximumLength()}. Calling this multiple times retains the largest window, and
+     * {@link #caching()} takes precedence.
+     *
+     * @param lookback the number of indices before the calculated index that consumers read
+     *
+     * @return this {@link Indicator}, for method chaining
+     *
+     * @see #caching()
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Indicator<T>> A caching(int lookback) {
+        checkArgument(lookback >= 0, "'lookback' must be greater than or equal to zero!");
+        final long length = lookback + 1L;
+        if (length >= series.getMaximumLength()) {
+            return caching();
+        }
+        if (cacheSeries == null && (windowCache == null || windowCache.length() < length)) {
+            windowCache = new WindowCache((int) length);
+            cacheTracker.resetEndValue();
         }
         return (A) this;
     }
 
     /**
-     * If {@link #isCaching()} is <code>true</code>, purges the cache by resetting {@link #cacheSeries}.
+     * Purges the single-value cache and, if {@link #isCaching()} is <code>true</code>, purges the cache by resetting
+     * {@link #cacheSeries} or {@link #windowCache}.
      *
      * @see #caching()
      */
@@ -149,6 +830,10 @@ public abstract class Indicator<T> {
         if (cacheSeries != null) {
             cacheSeries = new CacheSeries();
         }
+        if (windowCache != null) {
+            windowCache = new WindowCache(windowCache.length());
+        }
+        cacheTracker.reset();
     }
 
     /**
@@ -157,7 +842,71 @@ public abstract class Indicator<T> {
      * @see #caching()
      */
     public boolean isCaching() {
-        return cacheSeries != null;
+        return cacheSeries != null || windowCache != null;
+    }
+
+    /**
+     * @return the number of consecutive indices that the cache of this {@link Indicator} retains, which is
+     * {@link #getSeries()} {@link Series#getMaximumLength()} for {@link #caching()}, <code>lookback + 1</code> for
+     * {@link #caching(int)}, or <code>0</code> if {@link #isCaching()} is <code>false</code>
+     */
+    public int getCacheLength() {
+        return cacheSeries != null ? series.getMaximumLength() : windowCache != null ? windowCache.length() : 0;
+    }
+
+    /**
+     * Permanently enables instrumentation of this {@link Indicator}, which records the number of
+     * {@link #getValue(long)} calls, single-value cache hits, {@link #caching()} cache hits and misses,
+     * {@link RecursiveIndicator} catch-up steps, and the number and cumulative time of calculations. Each calculation
+     * also emits an {@link IndicatorCalculationEvent} to JDK Flight Recorder if the
+     * <code>trade.invision.indicators.IndicatorCalculation</code> event is enabled, and the metrics of all
+     * instrumented {@link Indicator}s are periodically emitted as the
+     * <code>trade.invision.indicators.IndicatorMetrics</code> event. Instrumentation is disabled by default, in which
+     * case it only costs a few predictable <code>null</code> checks per call.
+     *
+     * @return this {@link Indicator}, for method chaining
+     *
+     * @see #getMetrics()
+     * @see IndicatorMetrics#instrumentGraph(Indicator)
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Indicator<T>> A instrumenting() {
+        if (metrics == null) {
+            metrics = new IndicatorMetrics(this);
+        }
+        return (A) this;
+    }
+
+    /**
+     * @return <code>true</code> if this {@link Indicator} has instrumentation enabled, <code>false</code> otherwise
+     *
+     * @see #instrumenting()
+     */
+    public boolean isInstrumenting() {
+        return metrics != null;
+    }
+
+    /**
+     * Gets an {@link IndicatorMetricsSnapshot} of the metrics of this {@link Indicator}.
+     *
+     * @return the {@link IndicatorMetricsSnapshot}, or <code>null</code> if {@link #isInstrumenting()} is
+     * <code>false</code>
+     *
+     * @see #instrumenting()
+     */
+    public @Nullable IndicatorMetricsSnapshot getMetrics() {
+        return metrics != null ? metrics.snapshot() : null;
+    }
+
+    /**
+     * Resets the metrics of this {@link Indicator} to zero if {@link #isInstrumenting()} is <code>true</code>.
+     *
+     * @see #instrumenting()
+     */
+    public void resetMetrics() {
+        if (metrics != null) {
+            metrics.reset();
+        }
     }
 
     /**
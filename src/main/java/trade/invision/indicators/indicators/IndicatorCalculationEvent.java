@@ -0,0 +1,31 @@
+package trade.invision.indicators.indicators;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * {@link IndicatorCalculationEvent} is a JDK Flight Recorder {@link Event} that is emitted for each calculation of an
+ * {@link Indicator#instrumenting()} {@link Indicator}. It is disabled by default and has a threshold, so that only slow
+ * calculations are recorded when it is enabled in a recording.
+ */
+@Name("trade.invision.indicators.IndicatorCalculation")
+@Label("Indicator Calculation")
+@Description("A calculation of an instrumented Indicator")
+@Category({"Invision", "Indicators"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("1 ms")
+class IndicatorCalculationEvent extends Event {
+
+    @Label("Indicator")
+    String indicator;
+
+    @Label("Index")
+    long index;
+}
@@ -0,0 +1,143 @@
+package trade.invision.indicators.indicators;
+
+import jdk.jfr.FlightRecorder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static trade.invision.indicators.indicators.Indicator.topologicalOrder;
+
+/**
+ * {@link IndicatorMetrics} holds the mutable counters of an {@link Indicator#instrumenting()} {@link Indicator}. It
+ * also registers {@link IndicatorMetricsEvent} as a periodic JDK Flight Recorder event that emits the metrics of every
+ * instrumented {@link Indicator}. This class is not thread-safe.
+ */
+public final class IndicatorMetrics {
+
+    /**
+     * The instrumented {@link Indicator}s, weakly referenced so that instrumentation doesn't prevent garbage
+     * collection.
+     */
+    private static final Set<Indicator<?>> INSTRUMENTED = synchronizedSet(newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        FlightRecorder.addPeriodicEvent(IndicatorMetricsEvent.class, IndicatorMetrics::emitMetricsEvents);
+    }
+
+    private static void emitMetricsEvents() {
+        final List<Indicator<?>> indicators;
+        synchronized (INSTRUMENTED) {
+            indicators = new ArrayList<>(INSTRUMENTED);
+        }
+        for (Indicator<?> indicator : indicators) {
+            final IndicatorMetricsSnapshot snapshot = indicator.getMetrics();
+            if (snapshot == null) {
+                continue;
+            }
+            final IndicatorMetricsEvent event = new IndicatorMetricsEvent();
+            event.indicator = name(indicator);
+            event.calls = snapshot.getCalls();
+            event.cachedIndexHits = snapshot.getCachedIndexHits();
+            event.cacheHits = snapshot.getCacheHits();
+            event.cacheMisses = snapshot.getCacheMisses();
+            event.recursiveCatchUpSteps = snapshot.getRecursiveCatchUpSteps();
+            event.calculations = snapshot.getCalculations();
+            event.calculationNanos = snapshot.getCalculationNanos();
+            event.commit();
+        }
+    }
+
+    static String name(Indicator<?> indicator) {
+        return indicator.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(indicator));
+    }
+
+    /**
+     * Calls {@link Indicator#instrumenting()} on the given {@link Indicator} and all of its transitive
+     * {@link Indicator#getDependencies()}.
+     *
+     * @param indicator the root {@link Indicator}
+     */
+    public static void instrumentGraph(Indicator<?> indicator) {
+        for (Indicator<?> node : topologicalOrder(indicator)) {
+            node.instrumenting();
+        }
+    }
+
+    /**
+     * Gets the {@link IndicatorMetricsSnapshot} of the given {@link Indicator} and all of its transitive
+     * {@link Indicator#getDependencies()} that are {@link Indicator#isInstrumenting()}, where every {@link Indicator}
+     * comes after all of its dependencies.
+     *
+     * @param indicator the root {@link Indicator}
+     *
+     * @return the {@link Map} of {@link Indicator}s to their {@link IndicatorMetricsSnapshot}s
+     */
+    public static Map<Indicator<?>, IndicatorMetricsSnapshot> snapshotGraph(Indicator<?> indicator) {
+        final Map<Indicator<?>, IndicatorMetricsSnapshot> snapshots = new LinkedHashMap<>();
+        for (Indicator<?> node : topologicalOrder(indicator)) {
+            final IndicatorMetricsSnapshot snapshot = node.getMetrics();
+            if (snapshot != null) {
+                snapshots.put(node, snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    long calls;
+    long cachedIndexHits;
+    long cacheHits;
+    long cacheMisses;
+    long recursiveCatchUpSteps;
+    long calculations;
+    long calculationNanos;
+
+    IndicatorMetrics(Indicator<?> indicator) {
+        INSTRUMENTED.add(indicator);
+    }
+
+    /**
+     * @return a new {@link IndicatorMetricsSnapshot} of the current counters
+     */
+    IndicatorMetricsSnapshot snapshot() {
+        return new IndicatorMetricsSnapshot(calls, cachedIndexHits, cacheHits, cacheMisses, recursiveCatchUpSteps,
+                calculations, calculationNanos);
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    void reset() {
+        calls = 0;
+        cachedIndexHits = 0;
+        cacheHits = 0;
+        cacheMisses = 0;
+        recursiveCatchUpSteps = 0;
+        calculations = 0;
+        calculationNanos = 0;
+    }
+
+    /**
+     * Records a calculation that started at the given {@link System#nanoTime()}.
+     *
+     * @param indicator  the {@link Indicator}
+     * @param index      the calculated index
+     * @param event      the {@link IndicatorCalculationEvent} that was begun before the calculation
+     * @param startNanos the {@link System#nanoTime()} before the calculation
+     */
+    void recordCalculation(Indicator<?> indicator, long index, IndicatorCalculationEvent event, long startNanos) {
+        calculations++;
+        calculationNanos += System.nanoTime() - startNanos;
+        event.end();
+        if (event.shouldCommit()) {
+            event.indicator = name(indicator);
+            event.index = index;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package trade.invision.indicators.indicators;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link IndicatorMetricsEvent} is a periodic JDK Flight Recorder {@link Event} that records the
+ * {@link IndicatorMetricsSnapshot} of every {@link Indicator#instrumenting()} {@link Indicator}.
+ */
+@Name("trade.invision.indicators.IndicatorMetrics")
+@Label("Indicator Metrics")
+@Description("Cumulative metrics of an instrumented Indicator")
+@Category({"Invision", "Indicators"})
+@Period("1 s")
+@StackTrace(false)
+class IndicatorMetricsEvent extends Event {
+
+    @Label("Indicator")
+    String indicator;
+
+    @Label("Calls")
+    long calls;
+
+    @Label("Cached Index Hits")
+    long cachedIndexHits;
+
+    @Label("Cache Hits")
+    long cacheHits;
+
+    @Label("Cache Misses")
+    long cacheMisses;
+
+    @Label("Recursive Catch-Up Steps")
+    long recursiveCatchUpSteps;
+
+    @Label("Calculations")
+    long calculations;
+
+    @Label("Calculation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long calculationNanos;
+}
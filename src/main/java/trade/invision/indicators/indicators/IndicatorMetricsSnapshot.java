@@ -0,0 +1,52 @@
+package trade.invision.indicators.indicators;
+
+import lombok.Value;
+
+/**
+ * {@link IndicatorMetricsSnapshot} is an immutable snapshot of the {@link IndicatorMetrics} of an {@link Indicator}.
+ *
+ * @see Indicator#instrumenting()
+ */
+@Value
+public class IndicatorMetricsSnapshot {
+
+    /**
+     * The number of {@link Indicator#getValue(long)} (or {@link DoubleIndicator#getDouble(long)} or
+     * {@link BooleanIndicator#getBoolean(long)}) calls.
+     */
+    long calls;
+    /**
+     * The number of calls served by the single-value cache of the previously requested <code>index</code>.
+     */
+    long cachedIndexHits;
+    /**
+     * The number of calls served by the {@link Indicator#caching()} cache.
+     */
+    long cacheHits;
+    /**
+     * The number of calls that looked up the {@link Indicator#caching()} cache and had to calculate the value.
+     */
+    long cacheMisses;
+    /**
+     * The number of iterations performed by the {@link RecursiveIndicator} (or {@link RecursiveDoubleIndicator})
+     * catch-up loop.
+     */
+    long recursiveCatchUpSteps;
+    /**
+     * The number of calculations performed.
+     */
+    long calculations;
+    /**
+     * The cumulative wall-clock time of the calculations in nanoseconds, including the time spent calculating
+     * dependencies.
+     */
+    long calculationNanos;
+
+    /**
+     * @return the ratio of calls served by either cache to {@link #getCalls()}, or <code>0</code> if there were no
+     * calls
+     */
+    public double getHitRatio() {
+        return calls == 0 ? 0 : (double) (cachedIndexHits + cacheHits) / calls;
+    }
+}
@@ -0,0 +1,139 @@
+package trade.invision.indicators.indicators;
+
+import lombok.Getter;
+import trade.invision.indicators.series.Series;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Collections.unmodifiableMap;
+import static trade.invision.indicators.indicators.Indicator.UNBOUNDED_LOOKBACK;
+import static trade.invision.indicators.indicators.Indicator.topologicalOrder;
+
+/**
+ * {@link LookbackAnalysis} analyzes the dependency graph of an {@link Indicator} to determine how much history of
+ * {@link Indicator#getSeries()} is needed for its values to be stable, and estimates the memory retained by the caches
+ * in the graph. The lookback of each {@link Indicator} in the graph is its own {@link Indicator#getLookback(double)}
+ * plus the largest lookback of its {@link Indicator#getDependencies()}. This is useful for sizing
+ * {@link Series#getMaximumLength()} per strategy instead of oversizing it globally.
+ */
+public final class LookbackAnalysis {
+
+    /**
+     * The estimated size of a reference to a cached value, assuming compressed references.
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    /**
+     * Analyzes the dependency graph of the given {@link Indicator}.
+     *
+     * @param indicator the root {@link Indicator}
+     * @param tolerance the maximum total weight of the values before the lookback of {@link Indicator}s with a
+     *                  decaying infinite memory, such as an exponential moving average, between <code>0</code> and
+     *                  <code>1</code> (exclusive)
+     *
+     * @return the {@link LookbackAnalysis}
+     */
+    public static LookbackAnalysis lookbackAnalysis(Indicator<?> indicator, double tolerance) {
+        checkArgument(tolerance > 0 && tolerance < 1, "'tolerance' must be greater than zero and less than one!");
+        return new LookbackAnalysis(indicator, tolerance);
+    }
+
+    /**
+     * The root {@link Indicator}.
+     */
+    private final @Getter Indicator<?> indicator;
+    /**
+     * The tolerance of the lookbacks of {@link Indicator}s with a decaying infinite memory.
+     */
+    private final @Getter double tolerance;
+    private final Map<Indicator<?>, Long> lookbacks;
+
+    private LookbackAnalysis(Indicator<?> indicator, double tolerance) {
+        this.indicator = indicator;
+        this.tolerance = tolerance;
+        final Map<Indicator<?>, Long> lookbacks = new LinkedHashMap<>();
+        for (Indicator<?> node : topologicalOrder(indicator)) {
+            long dependencyLookback = 0;
+            for (Indicator<?> dependency : node.getDependencies()) {
+                dependencyLookback = max(dependencyLookback, lookbacks.get(dependency));
+            }
+            final long lookback = node.getLookback(tolerance);
+            lookbacks.put(node, lookback >= UNBOUNDED_LOOKBACK - dependencyLookback ? UNBOUNDED_LOOKBACK :
+                    lookback + dependencyLookback);
+        }
+        this.lookbacks = unmodifiableMap(lookbacks);
+    }
+
+    /**
+     * Gets the number of indices before an index that {@link #getIndicator()} needs for a stable value at the index.
+     *
+     * @return the lookback, or {@link Indicator#UNBOUNDED_LOOKBACK} if the value depends on all previous values
+     */
+    public long getLookback() {
+        return lookbacks.get(indicator);
+    }
+
+    /**
+     * Gets the lookback of {@link #getIndicator()} and each of its transitive {@link Indicator#getDependencies()},
+     * where every {@link Indicator} comes after all of its dependencies.
+     *
+     * @return the unmodifiable {@link Map} of {@link Indicator}s to their lookbacks
+     *
+     * @see #getLookback()
+     */
+    public Map<Indicator<?>, Long> getLookbacks() {
+        return lookbacks;
+    }
+
+    /**
+     * Gets the minimum {@link Series#getMaximumLength()} for the value of {@link #getIndicator()} at
+     * {@link Series#getEndIndex()} to be stable, which is {@link #getLookback()} plus one.
+     *
+     * @return the minimum length, or {@link Indicator#UNBOUNDED_LOOKBACK}
+     */
+    public long getRequiredSeriesLength() {
+        final long lookback = getLookback();
+        return lookback == UNBOUNDED_LOOKBACK ? UNBOUNDED_LOOKBACK : lookback + 1;
+    }
+
+    /**
+     * Estimates the number of bytes retained by the caches of {@link #getIndicator()} and each of its transitive
+     * {@link Indicator#getDependencies()} if every {@link Series} had the given <code>maximumLength</code>. Caches
+     * enabled via {@link Indicator#caching()} retain <code>maximumLength</code> values, caches enabled via
+     * {@link Indicator#caching(int)} retain at most their window of values, {@link DoubleIndicator} caches retain
+     * primitive <code>double</code>s, and {@link BooleanIndicator} caches retain two bits per value. The {@link Series}
+     * values themselves are not included.
+     *
+     * @param maximumLength the {@link Series#getMaximumLength()}
+     * @param valueBytes    the estimated size of one calculated value object, such as a {@link trade.invision.num.Num}
+     *
+     * @return the estimated number of bytes
+     */
+    public long estimateRetainedBytes(int maximumLength, int valueBytes) {
+        checkArgument(maximumLength > 0, "'maximumLength' must be greater than zero!");
+        long bytes = 0;
+        for (Indicator<?> node : lookbacks.keySet()) {
+            final int cacheLength = node.getCacheLength();
+            if (cacheLength == 0) {
+                continue;
+            }
+            final boolean window = cacheLength < node.getSeries().getMaximumLength();
+            final long entries = window ? min(cacheLength, maximumLength) : maximumLength;
+            if (node instanceof BooleanIndicator) {
+                // Window caches also store the cycle of each word of 64 values.
+                final long words = (entries + Long.SIZE - 1) / Long.SIZE;
+                bytes += words * (window ? 3 : 2) * Long.BYTES;
+                continue;
+            }
+            // Window caches also store the index of each value.
+            final long entryBytes = (window ? Long.BYTES : 0) +
+                    (node instanceof DoubleIndicator ? Double.BYTES : REFERENCE_BYTES + valueBytes);
+            bytes += entries * entryBytes;
+        }
+        return bytes;
+    }
+}
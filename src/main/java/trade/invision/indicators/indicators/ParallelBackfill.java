@@ -0,0 +1,314 @@
+package trade.invision.indicators.indicators;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.series.Series;
+import trade.invision.num.Num;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.fill;
+import static trade.invision.indicators.indicators.Indicator.topologicalOrder;
+
+/**
+ * {@link ParallelBackfill} performs {@link Indicator#computeRangeParallel(long, long, ForkJoinPool)}.
+ * <p>
+ * First, the range that each {@link Indicator} in the dependency graph must provide is derived from the range of its
+ * consumers and their {@link Indicator#getLookback(double)}, and each {@link Indicator} that is read by a concurrent
+ * calculation is marked. Then, the {@link Indicator}s are evaluated in topological order. An {@link Indicator} that
+ * {@link Indicator#isParallelizable()} is evaluated in chunks on the {@link ForkJoinPool} while every already evaluated
+ * {@link Indicator} only serves concurrent reads via {@link Indicator#getValueConcurrently(long)}. Any other
+ * {@link Indicator} is evaluated sequentially, except for an {@link AffineRecursiveIndicator}, which is evaluated with a
+ * parallel prefix scan. The results are retained in the cache if it can hold the range, or
+ * otherwise in {@link Indicator#backfillValues} if the {@link Indicator} is read concurrently and is not
+ * {@link Indicator#isStateless()}, since a stateless {@link Indicator} can simply be recalculated.
+ */
+final class ParallelBackfill {
+
+    /**
+     * The minimum number of indices in a chunk, which amortizes the task overhead and the calculation over the whole
+     * window that starts each chunk of a windowed {@link Indicator}.
+     */
+    private static final long MINIMUM_CHUNK_LENGTH = 1024;
+    /**
+     * The tolerance for {@link Indicator#getLookback(double)}, which is the smallest possible so that decaying
+     * recursive {@link Indicator}s are evaluated from {@link Series#getStartIndex()}, as they are sequentially.
+     */
+    private static final double LOOKBACK_TOLERANCE = Double.MIN_VALUE;
+
+    private final Indicator<?> indicator;
+    private final long fromIndex;
+    private final long toIndex;
+    private final ForkJoinPool pool;
+    private final List<Indicator<?>> order;
+
+    ParallelBackfill(Indicator<?> indicator, long fromIndex, long toIndex, ForkJoinPool pool) {
+        this.indicator = indicator;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.pool = pool;
+        order = topologicalOrder(indicator);
+    }
+
+    /**
+     * Computes the range into the given <code>destination</code>, where the first element is the result at
+     * <code>fromIndex</code>.
+     */
+    void compute(Object[] destination) {
+        final int size = order.size();
+        final Map<Indicator<?>, Integer> positions = new IdentityHashMap<>();
+        for (int position = 0; position < size; position++) {
+            positions.put(order.get(position), position);
+        }
+        final long[] fromIndices = new long[size];
+        fill(fromIndices, Long.MAX_VALUE);
+        fromIndices[size - 1] = fromIndex;
+        final boolean[] readConcurrently = new boolean[size];
+        for (int position = size - 1; position >= 0; position--) {
+            final Indicator<?> node = order.get(position);
+            final long lookback = node.getLookback(LOOKBACK_TOLERANCE);
+            final long dependencyFromIndex = lookback >= fromIndices[position] ? 0 : fromIndices[position] - lookback;
+            final boolean readsConcurrently = node.isParallelizable() || node instanceof AffineRecursiveIndicator ||
+                    node.isStateless() && readConcurrently[position];
+            for (Indicator<?> dependency : node.getDependencies()) {
+                final int dependencyPosition = positions.get(dependency);
+                fromIndices[dependencyPosition] = min(fromIndices[dependencyPosition], dependencyFromIndex);
+                readConcurrently[dependencyPosition] |= readsConcurrently;
+            }
+        }
+        try {
+            for (int position = 0; position < size - 1; position++) {
+                final Indicator<?> node = order.get(position);
+                final Series<?> series = node.getSeries();
+                final long nodeFromIndex = max(fromIndices[position], series.getStartIndex());
+                final long nodeToIndex = min(toIndex, series.getEndIndex());
+                if (nodeFromIndex > nodeToIndex) {
+                    continue;
+                }
+                final boolean cached = node.getCacheLength() > nodeToIndex - nodeFromIndex;
+                final boolean backfilled = !cached && readConcurrently[position] && !node.isStateless();
+                if (node instanceof AffineRecursiveIndicator && cached) {
+                    computeScan(position, nodeFromIndex, nodeToIndex, null);
+                } else if (node.isParallelizable() && (cached || backfilled)) {
+                    final Object[] values = new Object[(int) (nodeToIndex - nodeFromIndex + 1)];
+                    computeParallel(position, nodeFromIndex, nodeToIndex, values, 0, cached);
+                    if (backfilled) {
+                        node.backfillFromIndex = nodeFromIndex;
+                        node.backfillValues = values;
+                    }
+                } else if (backfilled) {
+                    node.backfillSequentially(nodeFromIndex, nodeToIndex);
+                } else if (cached) {
+                    node.computeRangeSequentially(nodeFromIndex, nodeToIndex, null, 0);
+                }
+            }
+            if (indicator instanceof AffineRecursiveIndicator &&
+                    indicator.getCacheLength() > toIndex - indicator.getSeries().getStartIndex()) {
+                computeScan(size - 1, fromIndex, toIndex, destination);
+            } else if (indicator.isParallelizable()) {
+                computeParallel(size - 1, fromIndex, toIndex, destination, 0,
+                        indicator.getCacheLength() > toIndex - fromIndex);
+            } else {
+                indicator.computeRangeSequentially(fromIndex, toIndex, destination, 0);
+            }
+        } finally {
+            for (Indicator<?> node : order) {
+                node.clearBackfill();
+            }
+        }
+    }
+
+    /**
+     * Computes the range of the {@link Indicator} at the given <code>position</code> of {@link #order} in chunks. Only
+     * the {@link Indicator}s before it in {@link #order}, which have already been evaluated, are prepared for
+     * concurrent reads, since preparing a {@link RecursiveIndicator} pads its cache, which must not happen before it
+     * has been evaluated. {@link Series#getEndIndex()} is computed afterwards via {@link Indicator#getValue(long)} so
+     * that end index recalculation behaves exactly as it would otherwise.
+     */
+    private void computeParallel(int position, long nodeFromIndex, long nodeToIndex, Object[] values,
+            int valuesOffset, boolean cached) {
+        final Indicator<?> node = order.get(position);
+        final long endIndex = node.getSeries().getEndIndex();
+        final long lastNonEndIndex = min(nodeToIndex, endIndex - 1);
+        if (nodeFromIndex <= lastNonEndIndex) {
+            final long chunkLength = max(MINIMUM_CHUNK_LENGTH,
+                    (lastNonEndIndex - nodeFromIndex + 1) / (pool.getParallelism() * 4L));
+            final List<Indicator<?>> readers = order.subList(0, position + 1);
+            try {
+                for (Indicator<?> reader : readers) {
+                    reader.beginConcurrentReads();
+                }
+                pool.invoke(new Chunk(node, nodeFromIndex, lastNonEndIndex, values, valuesOffset, chunkLength));
+            } finally {
+                for (Indicator<?> reader : readers) {
+                    reader.endConcurrentReads();
+                }
+            }
+            if (cached) {
+                node.cacheRange(nodeFromIndex, lastNonEndIndex, values, valuesOffset);
+            }
+        }
+        if (nodeToIndex == endIndex) {
+            values[valuesOffset + (int) (endIndex - nodeFromIndex)] = node.getValue(endIndex);
+        }
+    }
+
+    /**
+     * Computes the range of the {@link AffineRecursiveIndicator} at the given <code>position</code> of {@link #order}
+     * with a parallel prefix scan. The scan starts after the values that are already cached from
+     * {@link Series#getStartIndex()} on, since the recurrence must be seeded with the value before the scanned range,
+     * and its results are retained in the cache.
+     */
+    private void computeScan(int position, long nodeFromIndex, long nodeToIndex, @Nullable Object[] destination) {
+        final AffineRecursiveIndicator node = (AffineRecursiveIndicator) order.get(position);
+        final long startIndex = node.getSeries().getStartIndex();
+        final long endIndex = node.getSeries().getEndIndex();
+        final long lastNonEndIndex = min(nodeToIndex, endIndex - 1);
+        long scanFromIndex = startIndex;
+        while (scanFromIndex <= lastNonEndIndex && node.isCached(scanFromIndex)) {
+            scanFromIndex++;
+        }
+        if (scanFromIndex == startIndex && scanFromIndex <= lastNonEndIndex) {
+            node.getValue(scanFromIndex++);
+        }
+        if (scanFromIndex <= lastNonEndIndex) {
+            final Num seedValue = node.getValue(scanFromIndex - 1);
+            final Object[] values = new Object[(int) (lastNonEndIndex - scanFromIndex + 1)];
+            final List<Indicator<?>> readers = order.subList(0, position);
+            try {
+                for (Indicator<?> reader : readers) {
+                    reader.beginConcurrentReads();
+                }
+                scan(node, scanFromIndex, lastNonEndIndex, seedValue, values);
+            } finally {
+                for (Indicator<?> reader : readers) {
+                    reader.endConcurrentReads();
+                }
+            }
+            node.cacheRange(scanFromIndex, lastNonEndIndex, values, 0);
+        }
+        if (destination != null) {
+            for (long index = nodeFromIndex; index <= nodeToIndex; index++) {
+                destination[(int) (index - nodeFromIndex)] = node.getValue(index);
+            }
+        }
+    }
+
+    /**
+     * Calculates the values from <code>scanFromIndex</code> to <code>scanToIndex</code> (inclusive) of the given
+     * {@link AffineRecursiveIndicator} into <code>values</code>. First, the affine map of each chunk, which is the
+     * composition of the affine maps of its indices, is calculated concurrently. Then, the value before each chunk is
+     * derived sequentially by applying the affine map of the preceding chunk to the value before it. Finally, each chunk
+     * is calculated concurrently from the value before it.
+     */
+    private void scan(AffineRecursiveIndicator node, long scanFromIndex, long scanToIndex, Num seedValue,
+            Object[] values) {
+        final long length = scanToIndex - scanFromIndex + 1;
+        final int chunkCount = (int) max(1, min(pool.getParallelism() * 4L, length / MINIMUM_CHUNK_LENGTH));
+        final long[] chunkFromIndices = new long[chunkCount + 1];
+        for (int chunk = 0; chunk <= chunkCount; chunk++) {
+            chunkFromIndices[chunk] = scanFromIndex + length * chunk / chunkCount;
+        }
+        final Num[] coefficients = new Num[chunkCount];
+        final Num[] offsets = new Num[chunkCount];
+        pool.invoke(new ForEachChunk(0, chunkCount - 1, chunk -> {
+            Num coefficient = node.getCoefficient(chunkFromIndices[chunk]);
+            Num offset = node.getOffset(chunkFromIndices[chunk]);
+            for (long index = chunkFromIndices[chunk] + 1; index < chunkFromIndices[chunk + 1]; index++) {
+                final Num indexCoefficient = node.getCoefficient(index);
+                coefficient = indexCoefficient.multiply(coefficient);
+                offset = indexCoefficient.multiply(offset).add(node.getOffset(index));
+            }
+            coefficients[chunk] = coefficient;
+            offsets[chunk] = offset;
+        }));
+        final Num[] previousValues = new Num[chunkCount];
+        previousValues[0] = seedValue;
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            previousValues[chunk] = coefficients[chunk - 1].multiply(previousValues[chunk - 1])
+                    .add(offsets[chunk - 1]);
+        }
+        pool.invoke(new ForEachChunk(0, chunkCount, chunk -> {
+            Num value = previousValues[chunk];
+            for (long index = chunkFromIndices[chunk]; index < chunkFromIndices[chunk + 1]; index++) {
+                value = node.calculate(index, value);
+                values[(int) (index - scanFromIndex)] = value;
+            }
+        }));
+    }
+
+    /**
+     * {@link ForEachChunk} splits a range of chunk numbers in halves and performs an action for each chunk number.
+     */
+    private static final class ForEachChunk extends RecursiveAction {
+
+        private final int fromChunk;
+        private final int toChunk;
+        private final IntConsumer action;
+
+        /**
+         * @param fromChunk the first chunk number (inclusive)
+         * @param toChunk   the last chunk number (exclusive)
+         * @param action    the action
+         */
+        private ForEachChunk(int fromChunk, int toChunk, IntConsumer action) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= 1) {
+                if (fromChunk < toChunk) {
+                    action.accept(fromChunk);
+                }
+                return;
+            }
+            final int middleChunk = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ForEachChunk(fromChunk, middleChunk, action), new ForEachChunk(middleChunk, toChunk, action));
+        }
+    }
+
+    /**
+     * {@link Chunk} splits a range in halves until it is no longer than the chunk length and then calls
+     * {@link Indicator#calculateChunk(long, long, Object[], int)}.
+     */
+    private static final class Chunk extends RecursiveAction {
+
+        private final Indicator<?> indicator;
+        private final long fromIndex;
+        private final long toIndex;
+        private final Object[] destination;
+        private final int destinationOffset;
+        private final long chunkLength;
+
+        private Chunk(Indicator<?> indicator, long fromIndex, long toIndex, Object[] destination,
+                int destinationOffset, long chunkLength) {
+            this.indicator = indicator;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.destination = destination;
+            this.destinationOffset = destinationOffset;
+            this.chunkLength = chunkLength;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex < chunkLength) {
+                indicator.calculateChunk(fromIndex, toIndex, destination, destinationOffset);
+                return;
+            }
+            final long middleIndex = (fromIndex + toIndex) >>> 1;
+            invokeAll(new Chunk(indicator, fromIndex, middleIndex, destination, destinationOffset, chunkLength),
+                    new Chunk(indicator, middleIndex + 1, toIndex, destination,
+                            destinationOffset + (int) (middleIndex + 1 - fromIndex), chunkLength));
+        }
+    }
+}
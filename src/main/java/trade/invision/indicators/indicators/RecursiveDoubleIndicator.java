@@ -0,0 +1,43 @@
+package trade.invision.indicators.indicators;
+
+import trade.invision.indicators.series.Series;
+
+import static java.lang.Math.max;
+
+/**
+ * {@link RecursiveDoubleIndicator} is the {@link DoubleIndicator} equivalent of {@link RecursiveIndicator}. Caching is
+ * permanently enabled, and {@link #getDouble(long)} replaces recursion in {@link #calculateDouble(long)} with
+ * iteration so that a {@link StackOverflowError} is avoided when the cache is empty.
+ */
+public abstract class RecursiveDoubleIndicator extends DoubleIndicator {
+
+    /**
+     * @see DoubleIndicator#DoubleIndicator(Series, int)
+     */
+    public RecursiveDoubleIndicator(Series<?> series, int minimumStableIndex) {
+        super(series, minimumStableIndex);
+        caching();
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Override
+    public double getDouble(long index) {
+        for (long seriesIndex = max(series.getStartIndex() - 1, doubleCacheSeries.getEndIndex() + 1);
+                seriesIndex < index; seriesIndex++) {
+            super.getDouble(seriesIndex);
+            if (metrics != null) {
+                metrics.recursiveCatchUpSteps++;
+            }
+        }
+        return super.getDouble(index);
+    }
+
+    /**
+     * Returns {@link #UNBOUNDED_LOOKBACK} since a recursive calculation depends on all previous values by default.
+     * {@link Indicator}s whose recursion has a decaying memory override this.
+     */
+    @Override
+    public long getLookback(double tolerance) {
+        return UNBOUNDED_LOOKBACK;
+    }
+}
@@ -26,7 +26,19 @@ public abstract class RecursiveIndicator<T> extends CachingIndicator<T> {
         for (long seriesIndex = max(series.getStartIndex() - 1, cacheSeries.getEndIndex() + 1);
                 seriesIndex < index; seriesIndex++) {
             super.getValue(seriesIndex);
+            if (metrics != null) {
+                metrics.recursiveCatchUpSteps++;
+            }
         }
         return super.getValue(index);
     }
+
+    /**
+     * Returns {@link #UNBOUNDED_LOOKBACK} since a recursive calculation depends on all previous values by default.
+     * {@link Indicator}s whose recursion has a decaying memory override this.
+     */
+    @Override
+    public long getLookback(double tolerance) {
+        return UNBOUNDED_LOOKBACK;
+    }
 }
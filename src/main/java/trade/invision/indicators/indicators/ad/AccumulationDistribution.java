@@ -3,8 +3,8 @@ package trade.invision.indicators.indicators.ad;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
 import trade.invision.indicators.indicators.bar.Volume;
 import trade.invision.indicators.indicators.clv.CloseLocationValue;
 import trade.invision.indicators.series.bar.Bar;
@@ -20,7 +20,7 @@ import static trade.invision.indicators.indicators.clv.CloseLocationValue.closeL
  *
  * @see <a href="https://www.investopedia.com/terms/a/accumulationdistribution.asp">Investopedia</a>
  */
-public class AccumulationDistribution extends RecursiveIndicator<Num> {
+public class AccumulationDistribution extends AffineRecursiveIndicator {
 
     /**
      * @see #accumulationDistribution(BarSeries)
@@ -56,11 +56,25 @@ public class AccumulationDistribution extends RecursiveIndicator<Num> {
     }
 
     @Override
-    protected Num calculate(long index) {
-        final Num mfv = clv.getValue(index).multiply(volume.getValue(index));
-        if (index == 0) {
-            return mfv;
-        }
-        return mfv.add(getValue(index - 1));
+    protected Num calculateFirst() {
+        return getOffset(0);
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
+        return getOffset(index).add(previousValue);
+    }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        return numOfOne();
+    }
+
+    /**
+     * @return the money flow volume at the given <code>index</code>
+     */
+    @Override
+    protected Num getOffset(long index) {
+        return clv.getValue(index).multiply(volume.getValue(index));
     }
 }
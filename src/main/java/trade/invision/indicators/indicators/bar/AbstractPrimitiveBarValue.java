@@ -0,0 +1,40 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.bar.BarSeries;
+import trade.invision.indicators.series.bar.ColumnarBarSeries;
+import trade.invision.num.Num;
+
+/**
+ * {@link AbstractPrimitiveBarValue} is an abstract {@link DoubleIndicator} for the primitive {@link BarSeries} field
+ * {@link Indicator}s, which read the primitive <code>double</code> getters of {@link BarSeries}, such as
+ * {@link BarSeries#getCloseDouble(long)}, so no {@link Num} is created on a {@link ColumnarBarSeries}. Caching is
+ * permanently disabled, since the values are read directly from the {@link BarSeries}.
+ */
+abstract class AbstractPrimitiveBarValue extends DoubleIndicator {
+
+    protected final BarSeries barSeries;
+
+    /**
+     * Instantiates a new {@link AbstractPrimitiveBarValue}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    protected AbstractPrimitiveBarValue(BarSeries barSeries) {
+        super(barSeries, 0);
+        this.barSeries = barSeries;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching() {
+        return (A) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching(int lookback) {
+        return (A) this;
+    }
+}
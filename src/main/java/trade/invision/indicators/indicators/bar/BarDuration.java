@@ -50,7 +50,6 @@ public class BarDuration extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return numOf(unit.between(bar.getEnd().atZone(UTC), bar.getStart().atZone(UTC)));
+        return numOf(unit.between(barSeries.getEnd(index).atZone(UTC), barSeries.getStart(index).atZone(UTC)));
     }
 }
@@ -1,6 +1,6 @@
 package trade.invision.indicators.indicators.bar;
 
-import trade.invision.indicators.indicators.CachelessIndicator;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.indicators.series.bar.Bar;
 import trade.invision.indicators.series.bar.BarSeries;
@@ -12,7 +12,7 @@ import java.time.Instant;
  *
  * @see <a href="https://www.investopedia.com/terms/c/candlestick.asp">Investopedia</a>
  */
-public class BarEnd extends CachelessIndicator<Instant> {
+public class BarEnd extends EpochNanosIndicator {
 
     /**
      * Gets a {@link BarEnd}.
@@ -30,8 +30,13 @@ public class BarEnd extends CachelessIndicator<Instant> {
         this.barSeries = barSeries;
     }
 
+    @Override
+    protected long calculateEpochNanos(long index) {
+        return barSeries.getEndEpochNanos(index);
+    }
+
     @Override
     protected Instant calculate(long index) {
-        return barSeries.get(index).getEnd();
+        return barSeries.getEnd(index);
     }
 }
@@ -38,6 +38,6 @@ public class Close extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getClose();
+        return barSeries.getClose(index);
     }
 }
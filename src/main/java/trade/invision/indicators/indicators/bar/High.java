@@ -38,6 +38,6 @@ public class High extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getHigh();
+        return barSeries.getHigh(index);
     }
 }
@@ -38,6 +38,6 @@ public class Low extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getLow();
+        return barSeries.getLow(index);
     }
 }
@@ -38,6 +38,6 @@ public class Open extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getOpen();
+        return barSeries.getOpen(index);
     }
 }
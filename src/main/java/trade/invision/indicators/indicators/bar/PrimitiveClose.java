@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveClose} is a {@link DoubleIndicator} to provide {@link Bar#getClose()} using
+ * {@link BarSeries#getCloseDouble(long)}.
+ *
+ * @see Close
+ */
+public class PrimitiveClose extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveClose}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveClose primitiveClose(BarSeries barSeries) {
+        return new PrimitiveClose(barSeries);
+    }
+
+    protected PrimitiveClose(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getCloseDouble(index);
+    }
+}
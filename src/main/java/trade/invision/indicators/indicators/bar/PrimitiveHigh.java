@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveHigh} is a {@link DoubleIndicator} to provide {@link Bar#getHigh()} using
+ * {@link BarSeries#getHighDouble(long)}.
+ *
+ * @see High
+ */
+public class PrimitiveHigh extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveHigh}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveHigh primitiveHigh(BarSeries barSeries) {
+        return new PrimitiveHigh(barSeries);
+    }
+
+    protected PrimitiveHigh(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getHighDouble(index);
+    }
+}
@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveLow} is a {@link DoubleIndicator} to provide {@link Bar#getLow()} using
+ * {@link BarSeries#getLowDouble(long)}.
+ *
+ * @see Low
+ */
+public class PrimitiveLow extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveLow}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveLow primitiveLow(BarSeries barSeries) {
+        return new PrimitiveLow(barSeries);
+    }
+
+    protected PrimitiveLow(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getLowDouble(index);
+    }
+}
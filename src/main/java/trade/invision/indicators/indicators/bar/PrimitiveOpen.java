@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveOpen} is a {@link DoubleIndicator} to provide {@link Bar#getOpen()} using
+ * {@link BarSeries#getOpenDouble(long)}.
+ *
+ * @see Open
+ */
+public class PrimitiveOpen extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveOpen}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveOpen primitiveOpen(BarSeries barSeries) {
+        return new PrimitiveOpen(barSeries);
+    }
+
+    protected PrimitiveOpen(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getOpenDouble(index);
+    }
+}
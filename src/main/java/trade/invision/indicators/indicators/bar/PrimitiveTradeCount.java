@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveTradeCount} is a {@link DoubleIndicator} to provide {@link Bar#getTradeCount()} using
+ * {@link BarSeries#getTradeCountDouble(long)}.
+ *
+ * @see TradeCount
+ */
+public class PrimitiveTradeCount extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveTradeCount}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveTradeCount primitiveTradeCount(BarSeries barSeries) {
+        return new PrimitiveTradeCount(barSeries);
+    }
+
+    protected PrimitiveTradeCount(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getTradeCountDouble(index);
+    }
+}
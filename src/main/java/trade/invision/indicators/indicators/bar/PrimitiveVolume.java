@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.bar;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveVolume} is a {@link DoubleIndicator} to provide {@link Bar#getVolume()} using
+ * {@link BarSeries#getVolumeDouble(long)}.
+ *
+ * @see Volume
+ */
+public class PrimitiveVolume extends AbstractPrimitiveBarValue {
+
+    /**
+     * Gets a {@link PrimitiveVolume}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveVolume primitiveVolume(BarSeries barSeries) {
+        return new PrimitiveVolume(barSeries);
+    }
+
+    protected PrimitiveVolume(BarSeries barSeries) {
+        super(barSeries);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return barSeries.getVolumeDouble(index);
+    }
+}
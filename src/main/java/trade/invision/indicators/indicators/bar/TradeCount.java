@@ -31,6 +31,6 @@ public class TradeCount extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getTradeCount();
+        return barSeries.getTradeCount(index);
     }
 }
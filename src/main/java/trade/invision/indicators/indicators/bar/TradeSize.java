@@ -42,7 +42,6 @@ public class TradeSize extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return bar.getVolume().divide(numOf(bar.getTradeCount())).ifNaN(numOfZero());
+        return barSeries.getVolume(index).divide(numOf(barSeries.getTradeCount(index))).ifNaN(numOfZero());
     }
 }
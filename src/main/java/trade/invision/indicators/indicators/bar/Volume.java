@@ -38,6 +38,6 @@ public class Volume extends CachelessIndicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        return barSeries.get(index).getVolume();
+        return barSeries.getVolume(index);
     }
 }
@@ -49,7 +49,6 @@ public class Hl2 extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return bar.getHigh().add(bar.getLow()).divide(numOfTwo());
+        return barSeries.getHigh(index).add(barSeries.getLow(index)).divide(numOfTwo());
     }
 }
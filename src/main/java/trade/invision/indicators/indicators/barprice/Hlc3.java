@@ -49,7 +49,7 @@ public class Hlc3 extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return bar.getHigh().add(bar.getLow()).add(bar.getClose()).divide(numOfThree());
+        return barSeries.getHigh(index).add(barSeries.getLow(index)).add(barSeries.getClose(index))
+                .divide(numOfThree());
     }
 }
@@ -49,7 +49,7 @@ public class Ohlc4 extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return bar.getOpen().add(bar.getHigh()).add(bar.getLow()).add(bar.getClose()).divide(numOfFour());
+        return barSeries.getOpen(index).add(barSeries.getHigh(index)).add(barSeries.getLow(index))
+                .add(barSeries.getClose(index)).divide(numOfFour());
     }
 }
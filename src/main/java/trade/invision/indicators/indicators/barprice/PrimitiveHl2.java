@@ -0,0 +1,46 @@
+package trade.invision.indicators.indicators.barprice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveHl2} is a {@link DoubleIndicator} to provide the HL/2 price of a {@link Bar} using the primitive
+ * <code>double</code> getters of {@link BarSeries}.
+ *
+ * @see Hl2
+ */
+public class PrimitiveHl2 extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveHl2}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveHl2 primitiveHl2(BarSeries barSeries) {
+        return CACHE.get(new CacheKey(barSeries), key -> new PrimitiveHl2(barSeries));
+    }
+
+    private static final Cache<CacheKey, PrimitiveHl2> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        BarSeries barSeries;
+    }
+
+    private final BarSeries barSeries;
+
+    protected PrimitiveHl2(BarSeries barSeries) {
+        super(barSeries, 0);
+        this.barSeries = barSeries;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return (barSeries.getHighDouble(index) + barSeries.getLowDouble(index)) / 2;
+    }
+}
@@ -0,0 +1,46 @@
+package trade.invision.indicators.indicators.barprice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveHlc3} is a {@link DoubleIndicator} to provide the HLC/3 price of a {@link Bar} using the primitive
+ * <code>double</code> getters of {@link BarSeries}.
+ *
+ * @see Hlc3
+ */
+public class PrimitiveHlc3 extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveHlc3}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveHlc3 primitiveHlc3(BarSeries barSeries) {
+        return CACHE.get(new CacheKey(barSeries), key -> new PrimitiveHlc3(barSeries));
+    }
+
+    private static final Cache<CacheKey, PrimitiveHlc3> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        BarSeries barSeries;
+    }
+
+    private final BarSeries barSeries;
+
+    protected PrimitiveHlc3(BarSeries barSeries) {
+        super(barSeries, 0);
+        this.barSeries = barSeries;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return (barSeries.getHighDouble(index) + barSeries.getLowDouble(index) + barSeries.getCloseDouble(index)) / 3;
+    }
+}
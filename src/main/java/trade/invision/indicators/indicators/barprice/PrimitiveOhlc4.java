@@ -0,0 +1,47 @@
+package trade.invision.indicators.indicators.barprice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+/**
+ * {@link PrimitiveOhlc4} is a {@link DoubleIndicator} to provide the OHLC/4 price of a {@link Bar} using the primitive
+ * <code>double</code> getters of {@link BarSeries}.
+ *
+ * @see Ohlc4
+ */
+public class PrimitiveOhlc4 extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveOhlc4}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveOhlc4 primitiveOhlc4(BarSeries barSeries) {
+        return CACHE.get(new CacheKey(barSeries), key -> new PrimitiveOhlc4(barSeries));
+    }
+
+    private static final Cache<CacheKey, PrimitiveOhlc4> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        BarSeries barSeries;
+    }
+
+    private final BarSeries barSeries;
+
+    protected PrimitiveOhlc4(BarSeries barSeries) {
+        super(barSeries, 0);
+        this.barSeries = barSeries;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return (barSeries.getOpenDouble(index) + barSeries.getHighDouble(index) + barSeries.getLowDouble(index) +
+                barSeries.getCloseDouble(index)) / 4;
+    }
+}
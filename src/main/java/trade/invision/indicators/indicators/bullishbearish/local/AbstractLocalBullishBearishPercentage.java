@@ -1,14 +1,16 @@
 package trade.invision.indicators.indicators.bullishbearish.local;
 
 import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.cumulative.CumulativeCount;
 import trade.invision.indicators.series.bar.Bar;
 import trade.invision.indicators.series.bar.BarSeries;
 import trade.invision.num.Num;
 
-import java.util.function.Predicate;
-
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static trade.invision.indicators.indicators.cumulative.CumulativeCount.cumulativeCount;
+import static trade.invision.indicators.indicators.meta.series.SeriesReference.seriesReference;
+import static trade.invision.indicators.indicators.operation.unary.UnaryOperation.unaryOperation;
 
 /**
  * {@link AbstractLocalBullishBearishPercentage} is an abstract {@link Num} {@link Indicator} for local bullish/bearish
@@ -16,9 +18,8 @@ import static java.lang.Math.max;
  */
 abstract class AbstractLocalBullishBearishPercentage extends Indicator<Num> {
 
-    private final BarSeries barSeries;
     private final int length;
-    private final Predicate<Bar> predicate;
+    private final CumulativeCount count;
 
     /**
      * Instantiates a new {@link AbstractLocalBullishBearishPercentage}.
@@ -30,22 +31,13 @@ abstract class AbstractLocalBullishBearishPercentage extends Indicator<Num> {
     protected AbstractLocalBullishBearishPercentage(BarSeries barSeries, int length, boolean bullish) {
         super(barSeries, 0);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.barSeries = barSeries;
         this.length = length;
-        predicate = bullish ? Bar::isBullish : Bar::isBearish;
+        count = cumulativeCount(unaryOperation(bullish ? Bar::isBullish : Bar::isBearish, seriesReference(barSeries)),
+                length);
     }
 
     @Override
     protected Num calculate(long index) {
-        // TODO this can be optimized similar to 'CumulativeSum'.
-        final long startIndex = max(0, index - length + 1);
-        final long observations = index - startIndex + 1;
-        int count = 0;
-        for (long seriesIndex = startIndex; seriesIndex <= index; seriesIndex++) {
-            if (predicate.test(barSeries.get(seriesIndex))) {
-                count++;
-            }
-        }
-        return numOf(count).divide(observations);
+        return count.getValue(index).divide(min(index + 1, length));
     }
 }
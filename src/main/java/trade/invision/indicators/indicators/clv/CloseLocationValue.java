@@ -49,10 +49,9 @@ public class CloseLocationValue extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        final Num low = bar.getLow();
-        final Num high = bar.getHigh();
-        final Num close = bar.getClose();
+        final Num low = barSeries.getLow(index);
+        final Num high = barSeries.getHigh(index);
+        final Num close = barSeries.getClose(index);
         return close.subtract(low).subtract(high.subtract(close)).divide(high.subtract(low));
     }
 }
@@ -0,0 +1,251 @@
+package trade.invision.indicators.indicators.concurrent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.meta.series.SeriesReference;
+import trade.invision.indicators.series.Series;
+import trade.invision.indicators.series.SeriesListener;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+import static trade.invision.indicators.indicators.meta.series.SeriesReference.seriesReference;
+
+/**
+ * {@link ConcurrentIndicator} is an {@link Indicator} that provides the values of the given {@link Indicator} to any
+ * number of concurrent reader threads while a single writer thread modifies {@link #getSeries()}. {@link Indicator} and
+ * {@link Series} are not thread-safe, since even {@link Indicator#getValue(long)} mutates internal state, so this
+ * {@link Indicator} never calls the given {@link Indicator} from a reader thread. Instead, the writer thread calculates
+ * the value of the given {@link Indicator} at {@link Series#getEndIndex()} after every
+ * {@link Series#add(Object, boolean)} and publishes it, along with a versioned snapshot of the {@link Series} indices
+ * and {@link Series#getAddCallCount()}. {@link #getValue(long)} only reads published values, is lock-free, and never
+ * blocks. A historical index is immutable once published, so reads of it always succeed until the index is removed
+ * due to {@link Series#getMaximumLength()}. A read of {@link #getPublishedEndIndex()} returns either the value before
+ * or the value after a concurrent {@link Series#replaceLast(Object)}, but never a partially published value. Readers
+ * that need values of several {@link ConcurrentIndicator}s from the same {@link Series} modification can use
+ * {@link #getValue(long, long)} with the version returned by {@link #getPublishedAddCallCount()}, in the manner of a
+ * seqlock: retry if it returns <code>null</code>.
+ * <p>
+ * A {@link ConcurrentIndicator} must be created on the writer thread (or before the writer thread starts), since the
+ * existing values of {@link #getSeries()} are published upon creation using {@link Indicator#computeRange(long, long)}.
+ * For concurrent reads of the {@link Series} values themselves, use {@link #concurrentSeries(Series)}.
+ *
+ * @param <T> the {@link Indicator} type
+ */
+public class ConcurrentIndicator<T> extends Indicator<T> {
+
+    /**
+     * Gets a {@link ConcurrentIndicator}.
+     *
+     * @param indicator the {@link Indicator} to publish the values of
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConcurrentIndicator<T> concurrentIndicator(Indicator<T> indicator) {
+        return (ConcurrentIndicator<T>) CACHE.get(new CacheKey(indicator),
+                key -> new ConcurrentIndicator<>(indicator));
+    }
+
+    /**
+     * Gets a {@link ConcurrentIndicator} of a {@link SeriesReference#seriesReference(Series)}. Only one such
+     * {@link ConcurrentIndicator} exists per {@link Series} until it is closed.
+     *
+     * @param series the {@link Series} to publish the values of
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConcurrentIndicator<T> concurrentSeries(Series<T> series) {
+        return (ConcurrentIndicator<T>) CACHE.get(new CacheKey(series),
+                key -> new ConcurrentIndicator<>(seriesReference(series), key));
+    }
+
+    private static final Cache<CacheKey, ConcurrentIndicator<?>> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    /**
+     * Keyed on the {@link Indicator} for {@link #concurrentIndicator(Indicator)} and on the {@link Series} for
+     * {@link #concurrentSeries(Series)}.
+     */
+    @Value
+    private static class CacheKey {
+
+        Object source;
+    }
+
+    /**
+     * An immutable published value.
+     */
+    @Value
+    private static class Entry<T> {
+
+        long index;
+        long addCallCount;
+        T value;
+    }
+
+    /**
+     * An immutable versioned snapshot of the {@link Series} indices.
+     */
+    @Value
+    private static class Snapshot {
+
+        long startIndex;
+        long endIndex;
+        long addCallCount;
+    }
+
+    private final Indicator<T> indicator;
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final SeriesListener seriesListener;
+    private final CacheKey cacheKey;
+    private volatile Snapshot snapshot;
+
+    protected ConcurrentIndicator(Indicator<T> indicator) {
+        this(indicator, new CacheKey(indicator));
+    }
+
+    private ConcurrentIndicator(Indicator<T> indicator, CacheKey cacheKey) {
+        super(indicator.getSeries(), indicator.getMinimumStableIndex());
+        this.indicator = indicator;
+        this.cacheKey = cacheKey;
+        entries = new AtomicReferenceArray<>(series.getMaximumLength());
+        snapshot = new Snapshot(-1, -1, series.getAddCallCount());
+        if (!series.isEmpty()) {
+            final long startIndex = series.getStartIndex();
+            long index = startIndex;
+            for (T value : indicator.computeRange(startIndex, series.getEndIndex())) {
+                entries.set(entryIndex(index), new Entry<>(index, series.getAddCallCount(), value));
+                index++;
+            }
+            snapshot = new Snapshot(startIndex, series.getEndIndex(), series.getAddCallCount());
+        }
+        seriesListener = (modifiedSeries, replaceLast) -> publish();
+        series.addListener(seriesListener);
+    }
+
+    private int entryIndex(long index) {
+        return (int) (index % entries.length());
+    }
+
+    /**
+     * Calculates and publishes the value of the given {@link Indicator} at {@link #getSeries()}
+     * {@link Series#getEndIndex()}. This is called on the writer thread after every
+     * {@link Series#add(Object, boolean)}.
+     */
+    private void publish() {
+        final long endIndex = series.getEndIndex();
+        final long addCallCount = series.getAddCallCount();
+        entries.set(entryIndex(endIndex), new Entry<>(endIndex, addCallCount, indicator.getValue(endIndex)));
+        // The volatile write publishes the entry above to readers that read 'snapshot' first.
+        snapshot = new Snapshot(series.getStartIndex(), endIndex, addCallCount);
+    }
+
+    @Override
+    protected T calculate(long index) {
+        return getValue(index);
+    }
+
+    /**
+     * Gets the published value at the given <code>index</code> without blocking. This method may be called from any
+     * thread. Unlike {@link Series#get(long)}, an <code>index</code> less than {@link #getPublishedStartIndex()} is not
+     * replaced with {@link #getPublishedStartIndex()}, since a concurrent {@link Series#add(Object, boolean)} may remove
+     * an index at any time and a reader must not silently receive the value of a different index.
+     *
+     * @param index the index
+     *
+     * @return the result (never <code>null</code>)
+     *
+     * @throws IndexOutOfBoundsException thrown if the index has not been published yet or has been removed due to
+     *                                   {@link Series#getMaximumLength()}
+     */
+    @Override
+    public T getValue(long index) {
+        final Snapshot current = snapshot;
+        if (index >= 0 && index <= current.endIndex) {
+            final Entry<T> entry = entries.get(entryIndex(index));
+            if (entry != null && entry.index == index) {
+                return entry.value;
+            }
+        }
+        throw new IndexOutOfBoundsException(format("startIndex=%d, endIndex=%d, index=%d",
+                current.startIndex, current.endIndex, index));
+    }
+
+    /**
+     * Gets the published value at the given <code>index</code> only if it is consistent with the given
+     * <code>addCallCount</code> version, without blocking. This method may be called from any thread.
+     *
+     * @param index        the index
+     * @param addCallCount the version from {@link #getPublishedAddCallCount()}
+     *
+     * @return the result, or <code>null</code> if {@link #getSeries()} has since been modified in a way that changed
+     * the value at <code>index</code> or the value at <code>index</code> was not published yet
+     *
+     * @throws IndexOutOfBoundsException thrown if the index has been removed due to {@link Series#getMaximumLength()}
+     */
+    public @Nullable T getValue(long index, long addCallCount) {
+        final Snapshot current = snapshot;
+        if (index > current.endIndex) {
+            return null;
+        }
+        final Entry<T> entry = index >= 0 ? entries.get(entryIndex(index)) : null;
+        if (entry == null || entry.index != index) {
+            throw new IndexOutOfBoundsException(format("startIndex=%d, endIndex=%d, index=%d",
+                    current.startIndex, current.endIndex, index));
+        }
+        return entry.addCallCount <= addCallCount ? entry.value : null;
+    }
+
+    /**
+     * @return the {@link Series#getStartIndex()} of the latest published snapshot
+     */
+    public long getPublishedStartIndex() {
+        return snapshot.startIndex;
+    }
+
+    /**
+     * @return the {@link Series#getEndIndex()} of the latest published snapshot
+     */
+    public long getPublishedEndIndex() {
+        return snapshot.endIndex;
+    }
+
+    /**
+     * @return the {@link Series#getAddCallCount()} of the latest published snapshot, used as its version
+     */
+    public long getPublishedAddCallCount() {
+        return snapshot.addCallCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<T>> A caching() {
+        return (A) this; // Published values are already retained
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<T>> A caching(int lookback) {
+        return (A) this; // Published values are already retained
+    }
+
+    @Override
+    public boolean isCaching() {
+        return true;
+    }
+
+    @Override
+    public int getCacheLength() {
+        return entries.length();
+    }
+
+    /**
+     * Stops publishing the values of the given {@link Indicator}. Previously published values remain readable by
+     * existing references, but {@link #concurrentIndicator(Indicator)} and {@link #concurrentSeries(Series)} will
+     * return a new {@link ConcurrentIndicator} afterward.
+     */
+    public void close() {
+        series.removeListener(seriesListener);
+        CACHE.asMap().remove(cacheKey, this);
+    }
+}
@@ -3,6 +3,7 @@ package trade.invision.indicators.indicators.convergencedivergence;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.BooleanIndicator;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.indicators.indicators.risingfalling.local.LocalFallingPercentage;
 import trade.invision.indicators.indicators.risingfalling.local.LocalRisingPercentage;
@@ -23,7 +24,7 @@ import static trade.invision.indicators.indicators.risingfalling.local.LocalRisi
  *
  * @see <a href="https://www.investopedia.com/terms/d/divergence.asp">Investopedia</a>
  */
-public class SimpleConvergenceDivergence extends Indicator<Boolean> {
+public class SimpleConvergenceDivergence extends BooleanIndicator {
 
     /**
      * Gets a {@link SimpleConvergenceDivergence}.
@@ -88,7 +89,7 @@ public class SimpleConvergenceDivergence extends Indicator<Boolean> {
     }
 
     @Override
-    protected Boolean calculate(long index) {
+    protected boolean calculateBoolean(long index) {
         return riseFallFirst.getValue(index).isGreaterThanOrEqual(percentageThreshold, series.getEpsilon()) &&
                 riseFallSecond.getValue(index).isGreaterThanOrEqual(percentageThreshold, series.getEpsilon());
     }
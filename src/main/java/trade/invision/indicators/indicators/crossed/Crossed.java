@@ -3,6 +3,7 @@ package trade.invision.indicators.indicators.crossed;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.BooleanIndicator;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.num.Num;
 
@@ -14,7 +15,7 @@ import static trade.invision.indicators.indicators.crossed.CrossedUp.crossedUp;
  * {@link Crossed} is a {@link Boolean} {@link Indicator} to provide a positive or negative crossing signal. A crossing
  * occurs when <code>first</code> crosses above or below <code>second</code>.
  */
-public class Crossed extends Indicator<Boolean> {
+public class Crossed extends BooleanIndicator {
 
     /**
      * Gets a {@link Crossed}.
@@ -45,7 +46,7 @@ public class Crossed extends Indicator<Boolean> {
     }
 
     @Override
-    protected Boolean calculate(long index) {
-        return crossedUp.getValue(index) || crossedDown.getValue(index);
+    protected boolean calculateBoolean(long index) {
+        return crossedUp.getBoolean(index) || crossedDown.getBoolean(index);
     }
 }
@@ -34,4 +34,13 @@ public class CrossedDown extends CrossedUp {
     protected CrossedDown(Indicator<Num> first, Indicator<Num> second) {
         super(second, first);
     }
+
+    /**
+     * Returns <code>1</code>, although the calculation looks back further while <code>first</code> and
+     * <code>second</code> are equal.
+     */
+    @Override
+    public long getLookback(double tolerance) {
+        return 1;
+    }
 }
@@ -3,6 +3,7 @@ package trade.invision.indicators.indicators.crossed;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.BooleanIndicator;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.num.Num;
 
@@ -12,7 +13,7 @@ import static java.lang.Math.max;
  * {@link CrossedUp} is a {@link Boolean} {@link Indicator} to provide a positive crossing signal. A positive crossing
  * occurs when <code>first</code> crosses above <code>second</code>.
  */
-public class CrossedUp extends Indicator<Boolean> {
+public class CrossedUp extends BooleanIndicator {
 
     /**
      * Gets a {@link CrossedUp}.
@@ -43,7 +44,7 @@ public class CrossedUp extends Indicator<Boolean> {
     }
 
     @Override
-    protected Boolean calculate(long index) {
+    protected boolean calculateBoolean(long index) {
         if (index == 0 || first.getValue(index).isLessThanOrEqual(second.getValue(index), series.getEpsilon())) {
             return false;
         }
@@ -52,4 +53,13 @@ public class CrossedUp extends Indicator<Boolean> {
         } while (index > 0 && first.getValue(index).isEqual(second.getValue(index), series.getEpsilon()));
         return first.getValue(index).isLessThan(second.getValue(index));
     }
+
+    /**
+     * Returns <code>1</code>, although the calculation looks back further while <code>first</code> and
+     * <code>second</code> are equal.
+     */
+    @Override
+    public long getLookback(double tolerance) {
+        return 1;
+    }
 }
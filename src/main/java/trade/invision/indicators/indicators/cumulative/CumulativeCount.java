@@ -0,0 +1,124 @@
+package trade.invision.indicators.indicators.cumulative;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.BooleanIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.Series;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+
+/**
+ * {@link CumulativeCount} is a {@link Num} {@link Indicator} to provide the number of <code>true</code> values of a
+ * {@link Boolean} {@link Indicator} over a <code>length</code> of values. This is useful for windowed percentages of
+ * occurrences of a condition. If the {@link Boolean} {@link Indicator} is a {@link BooleanIndicator}, windows that are
+ * not consecutive to the previous calculation are counted with {@link BooleanIndicator#countTrue(long, long)}.
+ */
+public class CumulativeCount extends Indicator<Num> {
+
+    /**
+     * Gets a {@link CumulativeCount}.
+     *
+     * @param indicator the {@link Boolean} {@link Indicator}
+     * @param length    the number of values to count over
+     */
+    public static CumulativeCount cumulativeCount(Indicator<Boolean> indicator, int length) {
+        return CACHE.get(new CacheKey(indicator, length), key -> new CumulativeCount(indicator, length));
+    }
+
+    private static final Cache<CacheKey, CumulativeCount> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Boolean> indicator;
+        int length;
+    }
+
+    private final Indicator<Boolean> indicator;
+    private final int length;
+    private long previousIndex;
+    private boolean previousValue;
+    private long previousCount;
+
+    protected CumulativeCount(Indicator<Boolean> indicator, int length) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = indicator.caching(length);
+        this.length = length;
+        previousIndex = -1;
+    }
+
+    @Override
+    protected Num calculate(long index) {
+        final boolean currentValue = indicator.getValue(index);
+        long count;
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            count = previousCount - (previousValue ? 1 : 0) + (currentValue ? 1 : 0);
+        } else if (index == previousIndex + 1) {
+            count = previousCount + (currentValue ? 1 : 0);
+            if (index >= length && indicator.getValue(index - length)) {
+                count--;
+            }
+        } else {
+            count = countBefore(index) + (currentValue ? 1 : 0);
+        }
+        previousIndex = index;
+        previousValue = currentValue;
+        previousCount = count;
+        return numOf(count);
+    }
+
+    /**
+     * @return the number of <code>true</code> values in the window of the given <code>index</code>, excluding the
+     * value at <code>index</code>
+     */
+    private long countBefore(long index) {
+        final long fromIndex = max(0, index - length + 1);
+        final Series<?> indicatorSeries = indicator.getSeries();
+        if (indicator instanceof BooleanIndicator booleanIndicator && fromIndex < index &&
+                fromIndex >= indicatorSeries.getStartIndex() && index - 1 <= indicatorSeries.getEndIndex()) {
+            return booleanIndicator.countTrue(fromIndex, index - 1);
+        }
+        long count = 0;
+        for (long countIndex = fromIndex; countIndex < index; countIndex++) {
+            if (indicator.getValue(countIndex)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected boolean isParallelizable() {
+        return true;
+    }
+
+    /**
+     * Performs the same calculations as consecutive {@link #calculate(long)} calls, but keeps the running count local
+     * to the chunk.
+     */
+    @Override
+    protected void calculateChunk(long fromIndex, long toIndex, Object[] destination, int destinationOffset) {
+        long count = countBefore(fromIndex) + (indicator.getValue(fromIndex) ? 1 : 0);
+        destination[destinationOffset] = numOf(count);
+        for (long index = fromIndex + 1; index <= toIndex; index++) {
+            if (indicator.getValue(index)) {
+                count++;
+            }
+            if (index >= length && indicator.getValue(index - length)) {
+                count--;
+            }
+            destination[destinationOffset + (int) (index - fromIndex)] = numOf(count);
+        }
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
@@ -12,7 +12,9 @@ import static java.lang.Math.max;
 /**
  * {@link CumulativeProduct} is a {@link Num} {@link Indicator} to provide the cumulative product (multiplication) over
  * a <code>length</code> of values. This is also known as a running product. In mathematical notation, this is denoted
- * by a capital pi.
+ * by a capital pi. Similar to {@link CumulativeSum}, identical <code>index</code> and consecutive <code>index</code>
+ * calculations are constant time by dividing out the value leaving the window. Zero values are counted separately
+ * instead of being multiplied into the running product, so that they can leave the window without a division by zero.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Multiplication#Capital_pi_notation">Wikipedia</a>
  */
@@ -46,20 +48,78 @@ public class CumulativeProduct extends Indicator<Num> {
 
     private final Indicator<Num> indicator;
     private final int length;
+    private long previousIndex;
+    private Num previousValue;
+    private Num nonZeroProduct;
+    private long zeroCount;
+    private long nanCount;
 
     protected CumulativeProduct(Indicator<Num> indicator, int length) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(length);
         this.length = length;
+        previousIndex = -1;
+        previousValue = numOfOne();
+        nonZeroProduct = numOfOne();
     }
 
     @Override
     protected Num calculate(long index) {
-        Num product = numOfOne();
-        for (long productIndex = max(0, index - length + 1); productIndex <= index; productIndex++) {
-            product = product.multiply(indicator.getValue(productIndex));
+        final Num currentValue = indicator.getValue(index);
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            remove(previousValue);
+            multiply(currentValue);
+        } else if (index == previousIndex + 1) {
+            multiply(currentValue);
+            if (index >= length) {
+                remove(indicator.getValue(index - length));
+            }
+        } else {
+            nonZeroProduct = numOfOne();
+            zeroCount = 0;
+            nanCount = 0;
+            for (long productIndex = max(0, index - length + 1); productIndex < index; productIndex++) {
+                multiply(indicator.getValue(productIndex));
+            }
+            multiply(currentValue);
         }
-        return product;
+        previousIndex = index;
+        previousValue = currentValue;
+        if (nanCount > 0) {
+            // Rare case, so defer to the plain product, which propagates the NaN.
+            Num product = numOfOne();
+            for (long productIndex = max(0, index - length + 1); productIndex <= index; productIndex++) {
+                product = product.multiply(indicator.getValue(productIndex));
+            }
+            return product;
+        }
+        return zeroCount > 0 ? numOfZero() : nonZeroProduct;
+    }
+
+    private void multiply(Num value) {
+        if (value.isNaN()) {
+            nanCount++;
+        } else if (value.isZero(numOfZero())) {
+            zeroCount++;
+        } else {
+            nonZeroProduct = nonZeroProduct.multiply(value);
+        }
+    }
+
+    private void remove(Num value) {
+        if (value.isNaN()) {
+            nanCount--;
+        } else if (value.isZero(numOfZero())) {
+            zeroCount--;
+        } else {
+            nonZeroProduct = nonZeroProduct.divide(value);
+        }
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
     }
 }
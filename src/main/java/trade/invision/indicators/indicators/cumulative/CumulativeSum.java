@@ -53,7 +53,7 @@ public class CumulativeSum extends Indicator<Num> {
     protected CumulativeSum(Indicator<Num> indicator, int length) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(length);
         this.length = length;
         previousIndex = -1;
         previousValue = numOfZero();
@@ -73,15 +73,50 @@ public class CumulativeSum extends Indicator<Num> {
                 sum = sum.subtract(indicator.getValue(index - length));
             }
         } else {
-            sum = numOfZero();
-            for (long sumIndex = max(0, index - length + 1); sumIndex < index; sumIndex++) {
-                sum = sum.add(indicator.getValue(sumIndex));
-            }
-            sum = sum.add(currentValue);
+            sum = sumBefore(index).add(currentValue);
         }
         previousIndex = index;
         previousValue = currentValue;
         previousSum = sum;
         return sum;
     }
+
+    /**
+     * @return the sum of the values in the window of the given <code>index</code>, excluding the value at
+     * <code>index</code>
+     */
+    private Num sumBefore(long index) {
+        Num sum = numOfZero();
+        for (long sumIndex = max(0, index - length + 1); sumIndex < index; sumIndex++) {
+            sum = sum.add(indicator.getValue(sumIndex));
+        }
+        return sum;
+    }
+
+    @Override
+    protected boolean isParallelizable() {
+        return true;
+    }
+
+    /**
+     * Performs the same calculations as consecutive {@link #calculate(long)} calls, but keeps the running sum local to
+     * the chunk.
+     */
+    @Override
+    protected void calculateChunk(long fromIndex, long toIndex, Object[] destination, int destinationOffset) {
+        Num sum = sumBefore(fromIndex).add(indicator.getValue(fromIndex));
+        destination[destinationOffset] = sum;
+        for (long index = fromIndex + 1; index <= toIndex; index++) {
+            sum = sum.add(indicator.getValue(index));
+            if (index >= length) {
+                sum = sum.subtract(indicator.getValue(index - length));
+            }
+            destination[destinationOffset + (int) (index - fromIndex)] = sum;
+        }
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
 }
@@ -0,0 +1,86 @@
+package trade.invision.indicators.indicators.cumulative;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static trade.invision.indicators.indicators.primitive.DoubleValue.doubleValue;
+
+/**
+ * {@link PrimitiveCumulativeSum} is a {@link DoubleIndicator} to provide the cumulative sum (summation) over a
+ * <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see CumulativeSum
+ */
+public class PrimitiveCumulativeSum extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveCumulativeSum}.
+     *
+     * @param indicator the {@link Num} {@link Indicator}
+     * @param length    the number of values to sum over
+     */
+    public static PrimitiveCumulativeSum primitiveCumulativeSum(Indicator<Num> indicator, int length) {
+        final DoubleIndicator doubleIndicator = doubleValue(indicator);
+        return CACHE.get(new CacheKey(doubleIndicator, length),
+                key -> new PrimitiveCumulativeSum(doubleIndicator, length));
+    }
+
+    private static final Cache<CacheKey, PrimitiveCumulativeSum> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        DoubleIndicator indicator;
+        int length;
+    }
+
+    private final DoubleIndicator indicator;
+    private final int length;
+    private long previousIndex;
+    private double previousValue;
+    private double previousSum;
+
+    protected PrimitiveCumulativeSum(DoubleIndicator indicator, int length) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = indicator.caching(length);
+        this.length = length;
+        previousIndex = -1;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        final double currentValue = indicator.getDouble(index);
+        double sum;
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            sum = previousSum - previousValue + currentValue;
+        } else if (index == previousIndex + 1) {
+            sum = previousSum + currentValue;
+            if (index >= length) {
+                sum -= indicator.getDouble(index - length);
+            }
+        } else {
+            sum = 0;
+            for (long sumIndex = max(0, index - length + 1); sumIndex < index; sumIndex++) {
+                sum += indicator.getDouble(sumIndex);
+            }
+            sum += currentValue;
+        }
+        previousIndex = index;
+        previousValue = currentValue;
+        previousSum = sum;
+        return sum;
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
@@ -10,12 +10,24 @@ import static java.lang.Math.max;
 
 /**
  * {@link AbstractLocalExtrema} is an abstract {@link Num} {@link Indicator} for the local extrema {@link Indicator}s.
+ * Sequential and identical <code>index</code> calculations use a monotonic deque of the values preceding
+ * <code>index</code> within the window, which results in an amortized constant time calculation. Non-sequential
+ * <code>index</code> calculations rebuild the monotonic deque by scanning the window.
  */
 abstract class AbstractLocalExtrema extends Indicator<Num> {
 
     private final Indicator<Num> indicator;
     private final int length;
     private final BiPredicate<Num, Num> predicate;
+    /**
+     * The monotonic deque ring buffer of indices and values preceding {@link #previousIndex} within the window, where
+     * the value at the head of the deque is the extrema.
+     */
+    private final long[] dequeIndices;
+    private final Num[] dequeValues;
+    private int dequeHead;
+    private int dequeSize;
+    private long previousIndex;
 
     /**
      * Instantiates a new {@link AbstractLocalExtrema}.
@@ -27,22 +39,70 @@ abstract class AbstractLocalExtrema extends Indicator<Num> {
     protected AbstractLocalExtrema(Indicator<Num> indicator, int length, boolean maximum) {
         super(indicator.getSeries(), 0);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(length - 1);
         this.length = length;
         predicate = maximum ? Num::isGreaterThan : Num::isLessThan;
+        dequeIndices = new long[length];
+        dequeValues = new Num[length];
+        previousIndex = -1;
     }
 
     @Override
     protected Num calculate(long index) {
-        // TODO this can be optimized similar to 'CumulativeSum'.
-        Num extrema = indicator.getValue(index);
-        final long endIndex = max(0, index - length + 1);
-        for (long indicatorIndex = index - 1; indicatorIndex >= endIndex; indicatorIndex--) {
-            final Num value = indicator.getValue(indicatorIndex);
-            if (predicate.test(value, extrema)) {
-                extrema = value;
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex + 1 && index > 0) {
+            pushBack(previousIndex);
+        } else if (index != previousIndex) {
+            dequeHead = 0;
+            dequeSize = 0;
+            for (long indicatorIndex = max(0, index - length + 1); indicatorIndex < index; indicatorIndex++) {
+                pushBack(indicatorIndex);
+            }
+        }
+        previousIndex = index;
+        final long windowStartIndex = index - length + 1;
+        while (dequeSize > 0 && dequeIndices[dequeHead] < windowStartIndex) {
+            dequeValues[dequeHead] = null;
+            dequeHead = dequeHead + 1 == length ? 0 : dequeHead + 1;
+            dequeSize--;
+        }
+        final Num currentValue = indicator.getValue(index);
+        if (dequeSize == 0) {
+            return currentValue;
+        }
+        final Num dequeExtrema = dequeValues[dequeHead];
+        return predicate.test(dequeExtrema, currentValue) ? dequeExtrema : currentValue;
+    }
+
+    private void pushBack(long indicatorIndex) {
+        final Num value = indicator.getValue(indicatorIndex);
+        // Remove values that can never be the extrema again since 'value' is newer and at least as extreme.
+        while (dequeSize > 0) {
+            final int tail = dequeArrayIndex(dequeSize - 1);
+            if (predicate.test(dequeValues[tail], value)) {
+                break;
             }
+            dequeValues[tail] = null;
+            dequeSize--;
+        }
+        if (dequeSize == length) {
+            dequeValues[dequeHead] = null;
+            dequeHead = dequeHead + 1 == length ? 0 : dequeHead + 1;
+            dequeSize--;
         }
-        return extrema;
+        final int tail = dequeArrayIndex(dequeSize);
+        dequeIndices[tail] = indicatorIndex;
+        dequeValues[tail] = value;
+        dequeSize++;
+    }
+
+    private int dequeArrayIndex(int dequeIndex) {
+        final int arrayIndex = dequeHead + dequeIndex;
+        return arrayIndex >= length ? arrayIndex - length : arrayIndex;
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
     }
 }
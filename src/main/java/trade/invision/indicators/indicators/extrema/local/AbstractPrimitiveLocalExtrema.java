@@ -0,0 +1,103 @@
+package trade.invision.indicators.indicators.extrema.local;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static trade.invision.indicators.indicators.primitive.DoubleValue.doubleValue;
+
+/**
+ * {@link AbstractPrimitiveLocalExtrema} is an abstract {@link DoubleIndicator} for the primitive local extrema
+ * {@link Indicator}s. This uses the same monotonic deque calculation as {@link AbstractLocalExtrema}.
+ */
+abstract class AbstractPrimitiveLocalExtrema extends DoubleIndicator {
+
+    private final DoubleIndicator indicator;
+    private final int length;
+    private final boolean maximum;
+    /**
+     * The monotonic deque ring buffer of indices and values preceding {@link #previousIndex} within the window, where
+     * the value at the head of the deque is the extrema.
+     */
+    private final long[] dequeIndices;
+    private final double[] dequeValues;
+    private int dequeHead;
+    private int dequeSize;
+    private long previousIndex;
+
+    /**
+     * Instantiates a new {@link AbstractPrimitiveLocalExtrema}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     * @param maximum   <code>true</code> for the maximum, <code>false</code> for the minimum
+     */
+    protected AbstractPrimitiveLocalExtrema(Indicator<Num> indicator, int length, boolean maximum) {
+        super(indicator.getSeries(), 0);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = doubleValue(indicator).caching(length - 1);
+        this.length = length;
+        this.maximum = maximum;
+        dequeIndices = new long[length];
+        dequeValues = new double[length];
+        previousIndex = -1;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex + 1 && index > 0) {
+            pushBack(previousIndex);
+        } else if (index != previousIndex) {
+            dequeHead = 0;
+            dequeSize = 0;
+            for (long indicatorIndex = max(0, index - length + 1); indicatorIndex < index; indicatorIndex++) {
+                pushBack(indicatorIndex);
+            }
+        }
+        previousIndex = index;
+        final long windowStartIndex = index - length + 1;
+        while (dequeSize > 0 && dequeIndices[dequeHead] < windowStartIndex) {
+            dequeHead = dequeHead + 1 == length ? 0 : dequeHead + 1;
+            dequeSize--;
+        }
+        final double currentValue = indicator.getDouble(index);
+        if (dequeSize == 0) {
+            return currentValue;
+        }
+        final double dequeExtrema = dequeValues[dequeHead];
+        return isMoreExtreme(dequeExtrema, currentValue) ? dequeExtrema : currentValue;
+    }
+
+    private boolean isMoreExtreme(double value, double other) {
+        return maximum ? value > other : value < other;
+    }
+
+    private void pushBack(long indicatorIndex) {
+        final double value = indicator.getDouble(indicatorIndex);
+        // Remove values that can never be the extrema again since 'value' is newer and at least as extreme.
+        while (dequeSize > 0 && !isMoreExtreme(dequeValues[dequeArrayIndex(dequeSize - 1)], value)) {
+            dequeSize--;
+        }
+        if (dequeSize == length) {
+            dequeHead = dequeHead + 1 == length ? 0 : dequeHead + 1;
+            dequeSize--;
+        }
+        final int tail = dequeArrayIndex(dequeSize);
+        dequeIndices[tail] = indicatorIndex;
+        dequeValues[tail] = value;
+        dequeSize++;
+    }
+
+    private int dequeArrayIndex(int dequeIndex) {
+        final int arrayIndex = dequeHead + dequeIndex;
+        return arrayIndex >= length ? arrayIndex - length : arrayIndex;
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
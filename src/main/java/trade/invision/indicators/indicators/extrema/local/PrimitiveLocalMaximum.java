@@ -0,0 +1,40 @@
+package trade.invision.indicators.indicators.extrema.local;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+/**
+ * {@link PrimitiveLocalMaximum} is a {@link DoubleIndicator} to provide the local maximum extrema (highest value)
+ * over a <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see LocalMaximum
+ */
+public class PrimitiveLocalMaximum extends AbstractPrimitiveLocalExtrema {
+
+    /**
+     * Gets a {@link PrimitiveLocalMaximum}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    public static PrimitiveLocalMaximum primitiveLocalMaximum(Indicator<Num> indicator, int length) {
+        return CACHE.get(new CacheKey(indicator, length), key -> new PrimitiveLocalMaximum(indicator, length));
+    }
+
+    private static final Cache<CacheKey, PrimitiveLocalMaximum> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+    }
+
+    protected PrimitiveLocalMaximum(Indicator<Num> indicator, int length) {
+        super(indicator, length, true);
+    }
+}
@@ -0,0 +1,40 @@
+package trade.invision.indicators.indicators.extrema.local;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+/**
+ * {@link PrimitiveLocalMinimum} is a {@link DoubleIndicator} to provide the local minimum extrema (lowest value) over a
+ * <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see LocalMinimum
+ */
+public class PrimitiveLocalMinimum extends AbstractPrimitiveLocalExtrema {
+
+    /**
+     * Gets a {@link PrimitiveLocalMinimum}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    public static PrimitiveLocalMinimum primitiveLocalMinimum(Indicator<Num> indicator, int length) {
+        return CACHE.get(new CacheKey(indicator, length), key -> new PrimitiveLocalMinimum(indicator, length));
+    }
+
+    private static final Cache<CacheKey, PrimitiveLocalMinimum> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+    }
+
+    protected PrimitiveLocalMinimum(Indicator<Num> indicator, int length) {
+        super(indicator, length, false);
+    }
+}
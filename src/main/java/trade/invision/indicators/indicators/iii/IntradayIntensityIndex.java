@@ -49,11 +49,10 @@ public class IntradayIntensityIndex extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        final Num close = bar.getClose();
-        final Num high = bar.getHigh();
-        final Num low = bar.getLow();
-        final Num volume = bar.getVolume();
+        final Num close = barSeries.getClose(index);
+        final Num high = barSeries.getHigh(index);
+        final Num low = barSeries.getLow(index);
+        final Num volume = barSeries.getVolume(index);
         return numOfTwo().multiply(close).subtract(high).subtract(low).divide(high.subtract(low).multiply(volume));
     }
 }
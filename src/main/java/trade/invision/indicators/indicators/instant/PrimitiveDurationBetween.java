@@ -0,0 +1,65 @@
+package trade.invision.indicators.indicators.instant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+import trade.invision.indicators.indicators.Indicator;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static java.lang.Math.subtractExact;
+import static trade.invision.indicators.indicators.primitive.EpochNanosValue.epochNanosValue;
+import static trade.invision.indicators.series.EpochNanos.unitNanos;
+
+/**
+ * {@link PrimitiveDurationBetween} is a {@link DoubleIndicator} to provide the duration between two {@link Instant}s
+ * in the given fixed-length {@link ChronoUnit} using primitive <code>long</code> nanoseconds since the epoch. Like
+ * {@link DurationBetween}, a positive value will be returned if <code>second</code> is after <code>first</code>, a
+ * negative value will be returned if <code>second</code> is before <code>first</code>, and partial units are
+ * truncated toward zero.
+ *
+ * @see DurationBetween
+ */
+public class PrimitiveDurationBetween extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveDurationBetween}.
+     *
+     * @param first  the first {@link Indicator}
+     * @param second the second {@link Indicator}
+     * @param unit   the {@link ChronoUnit}, which must be {@link ChronoUnit#WEEKS} or smaller
+     */
+    public static PrimitiveDurationBetween primitiveDurationBetween(Indicator<Instant> first,
+            Indicator<Instant> second, ChronoUnit unit) {
+        return CACHE.get(new CacheKey(first, second, unit), key -> new PrimitiveDurationBetween(first, second, unit));
+    }
+
+    private static final Cache<CacheKey, PrimitiveDurationBetween> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Instant> first;
+        Indicator<Instant> second;
+        ChronoUnit unit;
+    }
+
+    private final EpochNanosIndicator first;
+    private final EpochNanosIndicator second;
+    private final long unitNanos;
+
+    protected PrimitiveDurationBetween(Indicator<Instant> first, Indicator<Instant> second, ChronoUnit unit) {
+        super(first.getSeries(), 0);
+        this.first = epochNanosValue(first);
+        this.second = epochNanosValue(second);
+        unitNanos = unitNanos(unit);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return subtractExact(second.getEpochNanos(index), first.getEpochNanos(index)) / unitNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package trade.invision.indicators.indicators.instant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+import trade.invision.indicators.indicators.Indicator;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static trade.invision.indicators.indicators.primitive.EpochNanosValue.epochNanosValue;
+import static trade.invision.indicators.series.EpochNanos.unitNanos;
+
+/**
+ * {@link PrimitiveEpochOffset} is a {@link DoubleIndicator} to provide the Unix epoch offset of an {@link Instant} in
+ * the given fixed-length {@link ChronoUnit} using primitive <code>long</code> nanoseconds since the epoch. Like
+ * {@link EpochOffset}, partial units are truncated toward zero. Offsets in {@link ChronoUnit#NANOS} beyond
+ * <code>2^53</code> (about 104 days) are rounded to the nearest <code>double</code>.
+ *
+ * @see EpochOffset
+ */
+public class PrimitiveEpochOffset extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveEpochOffset}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param unit      the {@link ChronoUnit}, which must be {@link ChronoUnit#WEEKS} or smaller
+     */
+    public static PrimitiveEpochOffset primitiveEpochOffset(Indicator<Instant> indicator, ChronoUnit unit) {
+        return CACHE.get(new CacheKey(indicator, unit), key -> new PrimitiveEpochOffset(indicator, unit));
+    }
+
+    private static final Cache<CacheKey, PrimitiveEpochOffset> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Instant> indicator;
+        ChronoUnit unit;
+    }
+
+    private final EpochNanosIndicator indicator;
+    private final long unitNanos;
+
+    protected PrimitiveEpochOffset(Indicator<Instant> indicator, ChronoUnit unit) {
+        super(indicator.getSeries(), 0);
+        this.indicator = epochNanosValue(indicator);
+        unitNanos = unitNanos(unit);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return indicator.getEpochNanos(index) / unitNanos;
+    }
+}
@@ -0,0 +1,55 @@
+package trade.invision.indicators.indicators.instant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+import trade.invision.indicators.indicators.Indicator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.lang.Math.addExact;
+import static trade.invision.indicators.indicators.primitive.EpochNanosValue.epochNanosValue;
+
+/**
+ * {@link PrimitiveOffsetBy} is an {@link EpochNanosIndicator} to provide an {@link Instant} that is offset by a given
+ * {@link Duration} using primitive <code>long</code> nanoseconds since the epoch.
+ *
+ * @see OffsetBy
+ */
+public class PrimitiveOffsetBy extends EpochNanosIndicator {
+
+    /**
+     * Gets a {@link PrimitiveOffsetBy}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param offset    the {@link Duration} offset
+     */
+    public static PrimitiveOffsetBy primitiveOffsetBy(Indicator<Instant> indicator, Duration offset) {
+        return CACHE.get(new CacheKey(indicator, offset), key -> new PrimitiveOffsetBy(indicator, offset));
+    }
+
+    private static final Cache<CacheKey, PrimitiveOffsetBy> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Instant> indicator;
+        Duration offset;
+    }
+
+    private final EpochNanosIndicator indicator;
+    private final long offsetNanos;
+
+    protected PrimitiveOffsetBy(Indicator<Instant> indicator, Duration offset) {
+        super(indicator.getSeries(), 0);
+        this.indicator = epochNanosValue(indicator);
+        offsetNanos = offset.toNanos();
+    }
+
+    @Override
+    protected long calculateEpochNanos(long index) {
+        return addExact(indicator.getEpochNanos(index), offsetNanos);
+    }
+}
@@ -0,0 +1,79 @@
+package trade.invision.indicators.indicators.instant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+import trade.invision.indicators.indicators.Indicator;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.floorMod;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static trade.invision.indicators.indicators.primitive.EpochNanosValue.epochNanosValue;
+import static trade.invision.indicators.series.EpochNanos.NANOS_PER_SECOND;
+import static trade.invision.indicators.series.EpochNanos.unitNanos;
+
+/**
+ * {@link PrimitiveTruncateTo} is an {@link EpochNanosIndicator} to provide truncated {@link Instant}s using primitive
+ * <code>long</code> nanoseconds since the epoch. Like {@link TruncateTo}, fields smaller than the given
+ * <code>unit</code> are set to zero in the given {@link ZoneOffset}. Since the truncation is performed arithmetically,
+ * only {@link ZoneOffset}s are supported, not {@link java.time.ZoneId}s with daylight saving time rules.
+ *
+ * @see TruncateTo
+ */
+public class PrimitiveTruncateTo extends EpochNanosIndicator {
+
+    /**
+     * Calls {@link #primitiveTruncateTo(Indicator, ChronoUnit, ZoneOffset)} with <code>zoneOffset</code> set to
+     * {@link ZoneOffset#UTC}.
+     */
+    public static PrimitiveTruncateTo primitiveTruncateTo(Indicator<Instant> indicator, ChronoUnit unit) {
+        return primitiveTruncateTo(indicator, unit, UTC);
+    }
+
+    /**
+     * Gets a {@link PrimitiveTruncateTo}.
+     *
+     * @param indicator  the {@link Indicator}
+     * @param unit       the {@link ChronoUnit}, which must be {@link ChronoUnit#DAYS} or smaller
+     * @param zoneOffset the {@link ZoneOffset} to perform the operation in
+     */
+    public static PrimitiveTruncateTo primitiveTruncateTo(Indicator<Instant> indicator, ChronoUnit unit,
+            ZoneOffset zoneOffset) {
+        return CACHE.get(new CacheKey(indicator, unit, zoneOffset),
+                key -> new PrimitiveTruncateTo(indicator, unit, zoneOffset));
+    }
+
+    private static final Cache<CacheKey, PrimitiveTruncateTo> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Instant> indicator;
+        ChronoUnit unit;
+        ZoneOffset zoneOffset;
+    }
+
+    private final EpochNanosIndicator indicator;
+    private final long unitNanos;
+    private final long offsetNanos;
+
+    protected PrimitiveTruncateTo(Indicator<Instant> indicator, ChronoUnit unit, ZoneOffset zoneOffset) {
+        super(indicator.getSeries(), 0);
+        checkArgument(unit.compareTo(DAYS) <= 0, "'unit' must be days or smaller!");
+        this.indicator = epochNanosValue(indicator);
+        unitNanos = unitNanos(unit);
+        offsetNanos = zoneOffset.getTotalSeconds() * NANOS_PER_SECOND;
+    }
+
+    @Override
+    protected long calculateEpochNanos(long index) {
+        final long epochNanos = indicator.getEpochNanos(index);
+        return epochNanos - floorMod(epochNanos + offsetNanos, unitNanos);
+    }
+}
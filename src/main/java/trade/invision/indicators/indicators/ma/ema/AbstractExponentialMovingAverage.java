@@ -1,19 +1,21 @@
 package trade.invision.indicators.indicators.ma.ema;
 
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
 
 /**
  * {@link AbstractExponentialMovingAverage} is an abstract {@link Num} {@link Indicator} for an Exponential Moving
  * Average (EMA).
  */
-abstract class AbstractExponentialMovingAverage extends RecursiveIndicator<Num> {
+abstract class AbstractExponentialMovingAverage extends AffineRecursiveIndicator {
 
     private final Indicator<Num> indicator;
     private final Num multiplier;
+    private final Num coefficient;
 
     /**
      * Instantiates a new {@link AbstractExponentialMovingAverage}.
@@ -27,14 +29,31 @@ abstract class AbstractExponentialMovingAverage extends RecursiveIndicator<Num>
         checkArgument(length > 0, "'length' must be greater than zero!");
         this.indicator = indicator;
         this.multiplier = multiplier;
+        coefficient = numOfOne().subtract(multiplier);
     }
 
     @Override
-    protected Num calculate(long index) {
-        if (index == 0) {
-            return indicator.getValue(0);
-        }
-        final Num previousValue = getValue(index - 1);
+    protected Num calculateFirst() {
+        return indicator.getValue(0);
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
         return indicator.getValue(index).subtract(previousValue).multiply(multiplier).add(previousValue);
     }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        return coefficient;
+    }
+
+    @Override
+    protected Num getOffset(long index) {
+        return indicator.getValue(index).multiply(multiplier);
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return max(minimumStableIndex, convergenceLookback(multiplier.toDouble(), tolerance));
+    }
 }
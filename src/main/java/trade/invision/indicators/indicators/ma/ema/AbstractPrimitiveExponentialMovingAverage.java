@@ -0,0 +1,48 @@
+package trade.invision.indicators.indicators.ma.ema;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.RecursiveDoubleIndicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static trade.invision.indicators.indicators.primitive.DoubleValue.doubleValue;
+
+/**
+ * {@link AbstractPrimitiveExponentialMovingAverage} is an abstract {@link DoubleIndicator} for an Exponential Moving
+ * Average (EMA) using primitive <code>double</code> arithmetic.
+ */
+abstract class AbstractPrimitiveExponentialMovingAverage extends RecursiveDoubleIndicator {
+
+    private final DoubleIndicator indicator;
+    private final double multiplier;
+
+    /**
+     * Instantiates a new {@link AbstractPrimitiveExponentialMovingAverage}.
+     *
+     * @param indicator  the {@link Indicator}
+     * @param length     the number of values to look back at
+     * @param multiplier the multiplier
+     */
+    protected AbstractPrimitiveExponentialMovingAverage(Indicator<Num> indicator, int length, double multiplier) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = doubleValue(indicator);
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        if (index == 0) {
+            return indicator.getDouble(0);
+        }
+        final double previousValue = getDouble(index - 1);
+        return (indicator.getDouble(index) - previousValue) * multiplier + previousValue;
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return max(minimumStableIndex, convergenceLookback(multiplier, tolerance));
+    }
+}
@@ -0,0 +1,54 @@
+package trade.invision.indicators.indicators.ma.ema;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+/**
+ * {@link PrimitiveExponentialMovingAverage} is a {@link DoubleIndicator} to provide an Exponential Moving Average
+ * (EMA) over a <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see ExponentialMovingAverage
+ */
+public class PrimitiveExponentialMovingAverage extends AbstractPrimitiveExponentialMovingAverage {
+
+    /**
+     * Calls {@link #primitiveExponentialMovingAverage(Indicator, int, double)} with <code>smoothing</code> set to
+     * <code>2</code>.
+     */
+    public static PrimitiveExponentialMovingAverage primitiveExponentialMovingAverage(Indicator<Num> indicator,
+            int length) {
+        return primitiveExponentialMovingAverage(indicator, length, 2);
+    }
+
+    /**
+     * Gets a {@link PrimitiveExponentialMovingAverage}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     * @param smoothing the smoothing factor (typically 2)
+     */
+    public static PrimitiveExponentialMovingAverage primitiveExponentialMovingAverage(Indicator<Num> indicator,
+            int length, double smoothing) {
+        return CACHE.get(new CacheKey(indicator, length, smoothing),
+                key -> new PrimitiveExponentialMovingAverage(indicator, length, smoothing));
+    }
+
+    private static final Cache<CacheKey, PrimitiveExponentialMovingAverage> CACHE =
+            Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+        double smoothing;
+    }
+
+    protected PrimitiveExponentialMovingAverage(Indicator<Num> indicator, int length, double smoothing) {
+        super(indicator, length, smoothing / (length + 1));
+    }
+}
@@ -0,0 +1,43 @@
+package trade.invision.indicators.indicators.ma.ema;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+/**
+ * {@link PrimitiveWellesWilderMovingAverage} is a {@link DoubleIndicator} to provide a Welles Wilder Moving Average
+ * (WWMA) over a <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see WellesWilderMovingAverage
+ */
+public class PrimitiveWellesWilderMovingAverage extends AbstractPrimitiveExponentialMovingAverage {
+
+    /**
+     * Gets a {@link PrimitiveWellesWilderMovingAverage}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    public static PrimitiveWellesWilderMovingAverage primitiveWellesWilderMovingAverage(Indicator<Num> indicator,
+            int length) {
+        return CACHE.get(new CacheKey(indicator, length),
+                key -> new PrimitiveWellesWilderMovingAverage(indicator, length));
+    }
+
+    private static final Cache<CacheKey, PrimitiveWellesWilderMovingAverage> CACHE =
+            Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+    }
+
+    protected PrimitiveWellesWilderMovingAverage(Indicator<Num> indicator, int length) {
+        super(indicator, length, 1.0 / length);
+    }
+}
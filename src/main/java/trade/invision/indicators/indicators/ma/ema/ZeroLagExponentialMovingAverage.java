@@ -3,12 +3,13 @@ package trade.invision.indicators.indicators.ma.ema;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
 import trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
 import static java.lang.Math.rint;
 import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.simpleMovingAverage;
 
@@ -18,7 +19,7 @@ import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.si
  *
  * @see <a href="https://www.fmlabs.com/reference/default.htm?url=ZeroLagExpMA.htm">FM Labs</a>
  */
-public class ZeroLagExponentialMovingAverage extends RecursiveIndicator<Num> {
+public class ZeroLagExponentialMovingAverage extends AffineRecursiveIndicator {
 
     /**
      * @see #zeroLagExponentialMovingAverage(Indicator, int)
@@ -58,23 +59,41 @@ public class ZeroLagExponentialMovingAverage extends RecursiveIndicator<Num> {
     protected ZeroLagExponentialMovingAverage(Indicator<Num> indicator, int length) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
         this.length = length;
         k = numOfTwo().divide(length + 1);
         lag = (int) rint((length - 1.0) / 2.0);
+        this.indicator = indicator.caching(lag);
         initialSma = simpleMovingAverage(indicator, length);
     }
 
     @Override
-    protected Num calculate(long index) {
-        if (index == 0) {
-            return indicator.getValue(0);
+    protected Num calculateFirst() {
+        return indicator.getValue(0);
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
+        if (index + 1 < length) {
+            return initialSma.getValue(index);
         }
+        return getOffset(index).add(numOfOne().subtract(k).multiply(previousValue));
+    }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        return index + 1 < length ? numOfZero() : numOfOne().subtract(k);
+    }
+
+    @Override
+    protected Num getOffset(long index) {
         if (index + 1 < length) {
             return initialSma.getValue(index);
         }
-        final Num previousValue = getValue(index - 1);
-        return k.multiply(numOfTwo().multiply(indicator.getValue(index)).subtract(indicator.getValue(index - lag)))
-                .add(numOfOne().subtract(k).multiply(previousValue));
+        return k.multiply(numOfTwo().multiply(indicator.getValue(index)).subtract(indicator.getValue(index - lag)));
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return max(length - 1, convergenceLookback(k.toDouble(), tolerance) + lag);
     }
 }
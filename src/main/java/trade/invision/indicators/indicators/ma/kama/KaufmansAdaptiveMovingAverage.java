@@ -3,13 +3,17 @@ package trade.invision.indicators.indicators.ma.kama;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
+import trade.invision.indicators.indicators.cumulative.CumulativeSum;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.max;
 import static java.lang.Math.rint;
+import static trade.invision.indicators.indicators.cumulative.CumulativeSum.cumulativeSum;
+import static trade.invision.indicators.indicators.operation.unary.NumUnaryOperations.absoluteValue;
+import static trade.invision.indicators.indicators.previous.PreviousDifference.previousDifference;
 
 /**
  * {@link KaufmansAdaptiveMovingAverage} is a {@link Num} {@link Indicator} to provide a Kaufman's Adaptive Moving
@@ -18,7 +22,7 @@ import static java.lang.Math.rint;
  * @see <a
  * href="https://chartschool.stockcharts.com/table-of-contents/technical-indicators-and-overlays/technical-overlays/kaufmans-adaptive-moving-average-kama">StockCharts</a>
  */
-public class KaufmansAdaptiveMovingAverage extends RecursiveIndicator<Num> {
+public class KaufmansAdaptiveMovingAverage extends AffineRecursiveIndicator {
 
     /**
      * @see #kaufmansAdaptiveMovingAverage(Indicator, int)
@@ -74,6 +78,7 @@ public class KaufmansAdaptiveMovingAverage extends RecursiveIndicator<Num> {
 
     private final Indicator<Num> indicator;
     private final int efficiencyRatioLength;
+    private final CumulativeSum volatility;
     private final Num fastest;
     private final Num slowest;
 
@@ -83,28 +88,56 @@ public class KaufmansAdaptiveMovingAverage extends RecursiveIndicator<Num> {
         checkArgument(efficiencyRatioLength > 0, "'efficiencyRatioLength' must be greater than zero!");
         checkArgument(fastLength > 0, "'fastLength' must be greater than zero!");
         checkArgument(slowLength > 0, "'slowLength' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(efficiencyRatioLength);
         this.efficiencyRatioLength = efficiencyRatioLength;
+        volatility = cumulativeSum(absoluteValue(previousDifference(this.indicator)), efficiencyRatioLength);
         fastest = numOfTwo().divide(fastLength + 1);
         slowest = numOfTwo().divide(slowLength + 1);
     }
 
     @Override
-    protected Num calculate(long index) {
+    protected Num calculateFirst() {
+        return indicator.getValue(0);
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
         final Num currentValue = indicator.getValue(index);
         if (index < efficiencyRatioLength) {
             return currentValue;
         }
-        final long startChangeIndex = max(0, index - efficiencyRatioLength);
-        final Num change = currentValue.subtract(indicator.getValue(startChangeIndex)).absoluteValue();
-        Num volatility = numOfZero();
-        for (long indicatorIndex = startChangeIndex; indicatorIndex < index; indicatorIndex++) {
-            volatility = volatility.add(indicator.getValue(indicatorIndex + 1)
-                    .subtract(indicator.getValue(indicatorIndex)).absoluteValue());
-        }
-        final Num er = change.divide(volatility);
+        return previousValue.add(smoothingConstant(index, currentValue).multiply(currentValue.subtract(previousValue)));
+    }
+
+    private Num smoothingConstant(long index, Num currentValue) {
+        final Num change = currentValue.subtract(indicator.getValue(index - efficiencyRatioLength)).absoluteValue();
+        final Num er = change.divide(volatility.getValue(index));
         final Num scInner = er.multiply(fastest.subtract(slowest)).add(slowest);
-        final Num previousValue = getValue(index - 1);
-        return previousValue.add(scInner.square().multiply(currentValue.subtract(previousValue)));
+        return scInner.square();
+    }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        if (index < efficiencyRatioLength) {
+            return numOfZero();
+        }
+        return numOfOne().subtract(smoothingConstant(index, indicator.getValue(index)));
+    }
+
+    @Override
+    protected Num getOffset(long index) {
+        final Num currentValue = indicator.getValue(index);
+        if (index < efficiencyRatioLength) {
+            return currentValue;
+        }
+        return smoothingConstant(index, currentValue).multiply(currentValue);
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        // The smoothing constant is at least the square of 'slowest'.
+        final long convergenceLookback = convergenceLookback(slowest.square().toDouble(), tolerance);
+        return convergenceLookback == UNBOUNDED_LOOKBACK ? UNBOUNDED_LOOKBACK :
+                max(minimumStableIndex, convergenceLookback + efficiencyRatioLength);
     }
 }
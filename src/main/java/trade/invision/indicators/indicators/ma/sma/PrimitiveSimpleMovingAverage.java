@@ -0,0 +1,57 @@
+package trade.invision.indicators.indicators.ma.sma;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.cumulative.PrimitiveCumulativeSum;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.min;
+import static trade.invision.indicators.indicators.cumulative.PrimitiveCumulativeSum.primitiveCumulativeSum;
+
+/**
+ * {@link PrimitiveSimpleMovingAverage} is a {@link DoubleIndicator} to provide a Simple Moving Average (SMA) over a
+ * <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see SimpleMovingAverage
+ */
+public class PrimitiveSimpleMovingAverage extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveSimpleMovingAverage}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    public static PrimitiveSimpleMovingAverage primitiveSimpleMovingAverage(Indicator<Num> indicator, int length) {
+        return CACHE.get(new CacheKey(indicator, length), key -> new PrimitiveSimpleMovingAverage(indicator, length));
+    }
+
+    private static final Cache<CacheKey, PrimitiveSimpleMovingAverage> CACHE =
+            Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+    }
+
+    private final int length;
+    private final PrimitiveCumulativeSum sum;
+
+    protected PrimitiveSimpleMovingAverage(Indicator<Num> indicator, int length) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.length = length;
+        sum = primitiveCumulativeSum(indicator, length);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return sum.getDouble(index) / min(index + 1, length);
+    }
+}
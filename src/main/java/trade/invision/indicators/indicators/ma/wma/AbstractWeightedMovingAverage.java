@@ -0,0 +1,81 @@
+package trade.invision.indicators.indicators.ma.wma;
+
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+
+/**
+ * {@link AbstractWeightedMovingAverage} is an abstract {@link Num} {@link Indicator} for linearly weighted moving
+ * averages, where the newest value has a weight of <code>n</code> and the oldest value has a weight of <code>1</code>.
+ * Similar to {@link trade.invision.indicators.indicators.cumulative.CumulativeSum}, the weighted sum is updated in
+ * constant time for identical <code>index</code> and consecutive <code>index</code> calculations using the plain sum
+ * of the window, and other calculations scan the window.
+ */
+abstract class AbstractWeightedMovingAverage extends Indicator<Num> {
+
+    private final Indicator<Num> indicator;
+    private final int length;
+    private long previousIndex;
+    private Num previousValue;
+    private long observations;
+    private Num sum;
+    private Num weightedSum;
+
+    /**
+     * Instantiates a new {@link AbstractWeightedMovingAverage}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    protected AbstractWeightedMovingAverage(Indicator<Num> indicator, int length) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = indicator.caching(length);
+        this.length = length;
+        previousIndex = -1;
+        previousValue = numOfZero();
+        sum = numOfZero();
+        weightedSum = numOfZero();
+    }
+
+    @Override
+    protected Num calculate(long index) {
+        final Num currentValue = indicator.getValue(index);
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            final Num delta = currentValue.subtract(previousValue);
+            weightedSum = weightedSum.add(delta.multiply(observations));
+            sum = sum.add(delta);
+        } else if (index == previousIndex + 1 && index >= length) {
+            // The window slides, so the weight of each retained value decreases by one and the oldest value's weight
+            // decreases to zero.
+            weightedSum = weightedSum.subtract(sum).add(currentValue.multiply(observations));
+            sum = sum.subtract(indicator.getValue(index - length)).add(currentValue);
+        } else if (index == previousIndex + 1) {
+            // The window grows, so the weights of the existing values are unchanged.
+            observations++;
+            weightedSum = weightedSum.add(currentValue.multiply(observations));
+            sum = sum.add(currentValue);
+        } else {
+            observations = 0;
+            sum = numOfZero();
+            weightedSum = numOfZero();
+            for (long indicatorIndex = max(0, index - length + 1); indicatorIndex <= index; indicatorIndex++) {
+                final Num value = indicatorIndex == index ? currentValue : indicator.getValue(indicatorIndex);
+                observations++;
+                weightedSum = weightedSum.add(value.multiply(observations));
+                sum = sum.add(value);
+            }
+        }
+        previousIndex = index;
+        previousValue = currentValue;
+        return weightedSum.divide(observations * (observations + 1) / 2);
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
@@ -6,16 +6,13 @@ import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.num.Num;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.Math.min;
-
 /**
  * {@link LinearlyWeightedMovingAverage} is a {@link Num} {@link Indicator} to provide a Linearly Weighted Moving
  * Average (LWMA) over a <code>length</code> of values.
  *
  * @see <a href="https://www.investopedia.com/terms/l/linearlyweightedmovingaverage.asp">Investopedia</a>
  */
-public class LinearlyWeightedMovingAverage extends Indicator<Num> {
+public class LinearlyWeightedMovingAverage extends AbstractWeightedMovingAverage {
 
     /**
      * @see #linearlyWeightedMovingAverage(Indicator, int)
@@ -44,27 +41,7 @@ public class LinearlyWeightedMovingAverage extends Indicator<Num> {
         int length;
     }
 
-    private final Indicator<Num> indicator;
-    private final int length;
-
     protected LinearlyWeightedMovingAverage(Indicator<Num> indicator, int length) {
-        super(indicator.getSeries(), length - 1);
-        checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
-        this.length = length;
-    }
-
-    @Override
-    protected Num calculate(long index) {
-        Num weightedSum = numOfZero();
-        long sumOfWeights = 0;
-        final long loopLength = min(index + 1, length);
-        long indicatorIndex = index;
-        for (long loopIndex = loopLength; loopIndex > 0; loopIndex--) {
-            weightedSum = weightedSum.add(indicator.getValue(indicatorIndex).multiply(loopIndex));
-            sumOfWeights += loopIndex;
-            indicatorIndex--;
-        }
-        return weightedSum.divide(sumOfWeights);
+        super(indicator, length);
     }
 }
@@ -80,7 +80,7 @@ public class DirectionalMoneyFlow extends Indicator<DirectionalMoneyFlowResult>
 
     protected DirectionalMoneyFlow(BarSeries barSeries) {
         super(barSeries, 1);
-        hlc3 = hlc3(barSeries).caching();
+        hlc3 = hlc3(barSeries).caching(1);
         volume = volume(barSeries);
     }
 
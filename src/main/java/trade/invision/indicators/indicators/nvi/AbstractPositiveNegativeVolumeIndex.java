@@ -1,7 +1,7 @@
 package trade.invision.indicators.indicators.nvi;
 
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
 import trade.invision.indicators.indicators.closeprice.ClosePricePercentChange;
 import trade.invision.indicators.series.bar.BarSeries;
 import trade.invision.num.Num;
@@ -16,7 +16,7 @@ import static trade.invision.indicators.indicators.previous.PreviousValue.previo
  * {@link AbstractPositiveNegativeVolumeIndex} is an abstract {@link Num} {@link Indicator} for Positive/Negative Volume
  * Index {@link Indicator}s.
  */
-abstract class AbstractPositiveNegativeVolumeIndex extends RecursiveIndicator<Num> {
+abstract class AbstractPositiveNegativeVolumeIndex extends AffineRecursiveIndicator {
 
     private final Indicator<Num> volume;
     private final Indicator<Num> previousVolume;
@@ -38,14 +38,28 @@ abstract class AbstractPositiveNegativeVolumeIndex extends RecursiveIndicator<Nu
     }
 
     @Override
-    protected Num calculate(long index) {
-        if (index == 0) {
-            return numOfHundred();
-        }
-        Num previousValue = getValue(index - 1);
+    protected Num calculateFirst() {
+        return numOfHundred();
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
         if (predicate.test(volume.getValue(index), previousVolume.getValue(index))) {
-            previousValue = previousValue.add(closePricePercentChange.getValue(index).multiply(previousValue));
+            return previousValue.add(closePricePercentChange.getValue(index).multiply(previousValue));
         }
         return previousValue;
     }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        if (predicate.test(volume.getValue(index), previousVolume.getValue(index))) {
+            return numOfOne().add(closePricePercentChange.getValue(index));
+        }
+        return numOfOne();
+    }
+
+    @Override
+    protected Num getOffset(long index) {
+        return numOfZero();
+    }
 }
@@ -3,8 +3,8 @@ package trade.invision.indicators.indicators.obv;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
+import trade.invision.indicators.indicators.AffineRecursiveIndicator;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.RecursiveIndicator;
 import trade.invision.indicators.indicators.bar.Close;
 import trade.invision.indicators.series.bar.BarSeries;
 import trade.invision.num.Num;
@@ -18,7 +18,7 @@ import static trade.invision.indicators.indicators.previous.PreviousValue.previo
  *
  * @see <a href="https://www.investopedia.com/terms/o/onbalancevolume.asp">Investopedia</a>
  */
-public class OnBalanceVolume extends RecursiveIndicator<Num> {
+public class OnBalanceVolume extends AffineRecursiveIndicator {
 
     /**
      * @see #onBalanceVolume(BarSeries)
@@ -56,18 +56,36 @@ public class OnBalanceVolume extends RecursiveIndicator<Num> {
     }
 
     @Override
-    protected Num calculate(long index) {
-        if (index == 0) {
-            return numOfZero();
-        }
+    protected Num calculateFirst() {
+        return numOfZero();
+    }
+
+    @Override
+    protected Num calculate(long index, Num previousValue) {
         final Num previousCloseValue = previousClose.getValue(index);
         final Num closeValue = close.getValue(index);
-        Num previousValue = getValue(index - 1);
         if (closeValue.isGreaterThan(previousCloseValue)) {
-            previousValue = previousValue.add(volume.getValue(index));
+            return previousValue.add(volume.getValue(index));
         } else if (closeValue.isLessThan(previousCloseValue)) {
-            previousValue = previousValue.subtract(volume.getValue(index));
+            return previousValue.subtract(volume.getValue(index));
         }
         return previousValue;
     }
+
+    @Override
+    protected Num getCoefficient(long index) {
+        return numOfOne();
+    }
+
+    @Override
+    protected Num getOffset(long index) {
+        final Num previousCloseValue = previousClose.getValue(index);
+        final Num closeValue = close.getValue(index);
+        if (closeValue.isGreaterThan(previousCloseValue)) {
+            return volume.getValue(index);
+        } else if (closeValue.isLessThan(previousCloseValue)) {
+            return volume.getValue(index).negate();
+        }
+        return numOfZero();
+    }
 }
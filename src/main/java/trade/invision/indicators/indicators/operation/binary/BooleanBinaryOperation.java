@@ -0,0 +1,49 @@
+package trade.invision.indicators.indicators.operation.binary;
+
+import trade.invision.indicators.indicators.BooleanIndicator;
+import trade.invision.indicators.indicators.Indicator;
+
+import static java.lang.Math.max;
+
+/**
+ * {@link BooleanBinaryOperation} is a {@link BooleanIndicator} that performs a {@link BooleanBinaryOperator} on two
+ * {@link Boolean} input {@link Indicator}s. Unlike a {@link Boolean} {@link BinaryOperation}, its cache stores bits.
+ *
+ * @see BinaryOperation
+ */
+public class BooleanBinaryOperation extends BooleanIndicator {
+
+    /**
+     * Gets a {@link BooleanBinaryOperation}.
+     *
+     * @param operator the {@link BooleanBinaryOperator}
+     * @param left     the left {@link Boolean} {@link Indicator} operand
+     * @param right    the right {@link Boolean} {@link Indicator} operand
+     */
+    public static BooleanBinaryOperation booleanBinaryOperation(BooleanBinaryOperator operator,
+            Indicator<Boolean> left, Indicator<Boolean> right) {
+        return new BooleanBinaryOperation(operator, left, right);
+    }
+
+    private final BooleanBinaryOperator operator;
+    private final Indicator<Boolean> left;
+    private final Indicator<Boolean> right;
+
+    protected BooleanBinaryOperation(BooleanBinaryOperator operator, Indicator<Boolean> left,
+            Indicator<Boolean> right) {
+        super(left.getSeries(), max(left.getMinimumStableIndex(), right.getMinimumStableIndex()));
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    protected boolean calculateBoolean(long index) {
+        return operator.applyAsBoolean(booleanOf(left, index), booleanOf(right, index));
+    }
+
+    private static boolean booleanOf(Indicator<Boolean> indicator, long index) {
+        return indicator instanceof BooleanIndicator booleanIndicator ? booleanIndicator.getBoolean(index) :
+                indicator.getValue(index);
+    }
+}
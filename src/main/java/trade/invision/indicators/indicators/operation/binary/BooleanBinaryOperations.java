@@ -1,43 +1,52 @@
 package trade.invision.indicators.indicators.operation.binary;
 
 import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.operation.shortcircuit.ShortCircuitOperation;
 
-import static trade.invision.indicators.indicators.operation.binary.BinaryOperation.binaryOperation;
+import java.util.List;
+
+import static trade.invision.indicators.indicators.operation.binary.BooleanBinaryOperation.booleanBinaryOperation;
+import static trade.invision.indicators.indicators.operation.shortcircuit.ShortCircuitOperation.shortCircuitOperation;
+import static trade.invision.indicators.indicators.operation.shortcircuit.ShortCircuitOperator.AND;
+import static trade.invision.indicators.indicators.operation.shortcircuit.ShortCircuitOperator.OR;
 
 /**
- * {@link BooleanBinaryOperations} provides convenience static methods for creating {@link Boolean}
- * {@link BinaryOperation} {@link Indicator}s.
+ * {@link BooleanBinaryOperations} provides convenience static methods for creating {@link Boolean} {@link Indicator}s
+ * from two {@link Boolean} operands: short-circuit {@link ShortCircuitOperation}s for <i>AND</i> and <i>OR</i>, and
+ * {@link BooleanBinaryOperation}s for the others.
  */
 public final class BooleanBinaryOperations {
 
     /**
-     * Creates a {@link Boolean} {@link Indicator} that invokes the logical <i>AND</i> binary operation on the given
-     * operands.
+     * Creates a {@link Boolean} {@link Indicator} that invokes the short-circuit logical <i>AND</i> binary operation on
+     * the given operands. <code>right</code> is not calculated if <code>left</code> is <code>false</code>. Use
+     * {@link ShortCircuitOperation#adaptive(Indicator)} to let operands be reordered by measured cost and selectivity.
      *
      * @param left  the left operand
      * @param right the right operand
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see BinaryOperation
+     * @see ShortCircuitOperation
      */
     public static Indicator<Boolean> and(Indicator<Boolean> left, Indicator<Boolean> right) {
-        return binaryOperation((l, r) -> l & r, left, right);
+        return shortCircuitOperation(AND, List.of(left, right), false);
     }
 
     /**
-     * Creates a {@link Boolean} {@link Indicator} that invokes the logical <i>OR</i> binary operation on the given
-     * operands.
+     * Creates a {@link Boolean} {@link Indicator} that invokes the short-circuit logical <i>OR</i> binary operation on
+     * the given operands. <code>right</code> is not calculated if <code>left</code> is <code>true</code>. Use
+     * {@link ShortCircuitOperation#adaptive(Indicator)} to let operands be reordered by measured cost and selectivity.
      *
      * @param left  the left operand
      * @param right the right operand
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see BinaryOperation
+     * @see ShortCircuitOperation
      */
     public static Indicator<Boolean> or(Indicator<Boolean> left, Indicator<Boolean> right) {
-        return binaryOperation((l, r) -> l | r, left, right);
+        return shortCircuitOperation(OR, List.of(left, right), false);
     }
 
     /**
@@ -49,10 +58,10 @@ public final class BooleanBinaryOperations {
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see BinaryOperation
+     * @see BooleanBinaryOperation
      */
     public static Indicator<Boolean> xor(Indicator<Boolean> left, Indicator<Boolean> right) {
-        return binaryOperation((l, r) -> l ^ r, left, right);
+        return booleanBinaryOperation((l, r) -> l ^ r, left, right);
     }
 
     /**
@@ -64,10 +73,10 @@ public final class BooleanBinaryOperations {
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see BinaryOperation
+     * @see BooleanBinaryOperation
      */
     public static Indicator<Boolean> isEqual(Indicator<Boolean> left, Indicator<Boolean> right) {
-        return binaryOperation((l, r) -> l == r, left, right);
+        return booleanBinaryOperation((l, r) -> l == r, left, right);
     }
 
     /**
@@ -79,9 +88,9 @@ public final class BooleanBinaryOperations {
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see BinaryOperation
+     * @see BooleanBinaryOperation
      */
     public static Indicator<Boolean> isNotEqual(Indicator<Boolean> left, Indicator<Boolean> right) {
-        return binaryOperation((l, r) -> l != r, left, right);
+        return booleanBinaryOperation((l, r) -> l != r, left, right);
     }
 }
@@ -0,0 +1,22 @@
+package trade.invision.indicators.indicators.operation.binary;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * {@link BooleanBinaryOperator} is the primitive <code>boolean</code> specialization of {@link BinaryOperator}.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary_operation">Wikipedia</a>
+ */
+@FunctionalInterface
+public interface BooleanBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  the left operand
+     * @param right the right operand
+     *
+     * @return the operator result
+     */
+    boolean applyAsBoolean(boolean left, boolean right);
+}
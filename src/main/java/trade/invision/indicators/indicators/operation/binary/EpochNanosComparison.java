@@ -0,0 +1,48 @@
+package trade.invision.indicators.indicators.operation.binary;
+
+import trade.invision.indicators.indicators.BooleanIndicator;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+
+import java.time.Instant;
+import java.util.function.IntPredicate;
+
+import static java.lang.Math.max;
+
+/**
+ * {@link EpochNanosComparison} is a {@link BooleanIndicator} that performs a binary comparison of two
+ * {@link EpochNanosIndicator}s using their primitive <code>long</code> nanoseconds since the epoch, which avoids
+ * allocating an {@link Instant} per operand. This is equivalent to a {@link BinaryOperation} of
+ * {@link Instant#compareTo(Instant)}.
+ *
+ * @see InstantBinaryOperations
+ */
+public class EpochNanosComparison extends BooleanIndicator {
+
+    /**
+     * Gets an {@link EpochNanosComparison}.
+     *
+     * @param predicate the {@link IntPredicate} to test the result of {@link Long#compare(long, long)} with
+     * @param left      the left {@link EpochNanosIndicator} operand
+     * @param right     the right {@link EpochNanosIndicator} operand
+     */
+    public static EpochNanosComparison epochNanosComparison(IntPredicate predicate, EpochNanosIndicator left,
+            EpochNanosIndicator right) {
+        return new EpochNanosComparison(predicate, left, right);
+    }
+
+    private final IntPredicate predicate;
+    private final EpochNanosIndicator left;
+    private final EpochNanosIndicator right;
+
+    protected EpochNanosComparison(IntPredicate predicate, EpochNanosIndicator left, EpochNanosIndicator right) {
+        super(left.getSeries(), max(left.getMinimumStableIndex(), right.getMinimumStableIndex()));
+        this.predicate = predicate;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    protected boolean calculateBoolean(long index) {
+        return predicate.test(Long.compare(left.getEpochNanos(index), right.getEpochNanos(index)));
+    }
+}
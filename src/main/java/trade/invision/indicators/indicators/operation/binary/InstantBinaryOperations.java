@@ -1,5 +1,6 @@
 package trade.invision.indicators.indicators.operation.binary;
 
+import trade.invision.indicators.indicators.EpochNanosIndicator;
 import trade.invision.indicators.indicators.Indicator;
 
 import java.time.Instant;
@@ -8,13 +9,17 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.chrono.ChronoLocalDate;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
 
 import static java.time.ZoneOffset.UTC;
 import static trade.invision.indicators.indicators.operation.binary.BinaryOperation.binaryOperation;
+import static trade.invision.indicators.indicators.operation.binary.EpochNanosComparison.epochNanosComparison;
 
 /**
  * {@link InstantBinaryOperations} provides convenience static methods for creating {@link Instant}
- * {@link BinaryOperation} {@link Indicator}s.
+ * {@link BinaryOperation} {@link Indicator}s. The {@link Instant} comparisons of two {@link EpochNanosIndicator}s are
+ * performed by an {@link EpochNanosComparison} instead, which compares primitive <code>long</code>s without allocating.
  */
 public final class InstantBinaryOperations {
 
@@ -108,7 +113,7 @@ public final class InstantBinaryOperations {
      * @see BinaryOperation
      */
     public static Indicator<Boolean> isEqual(Indicator<Instant> left, Indicator<Instant> right) {
-        return binaryOperation(Instant::equals, left, right);
+        return comparison(c -> c == 0, Instant::equals, left, right);
     }
 
     /**
@@ -123,7 +128,7 @@ public final class InstantBinaryOperations {
      * @see BinaryOperation
      */
     public static Indicator<Boolean> isBefore(Indicator<Instant> left, Indicator<Instant> right) {
-        return binaryOperation(Instant::isBefore, left, right);
+        return comparison(c -> c < 0, Instant::isBefore, left, right);
     }
 
     /**
@@ -138,7 +143,7 @@ public final class InstantBinaryOperations {
      * @see BinaryOperation
      */
     public static Indicator<Boolean> isBeforeOrEqual(Indicator<Instant> left, Indicator<Instant> right) {
-        return binaryOperation((l, r) -> !l.isAfter(r), left, right);
+        return comparison(c -> c <= 0, (l, r) -> !l.isAfter(r), left, right);
     }
 
     /**
@@ -153,7 +158,7 @@ public final class InstantBinaryOperations {
      * @see BinaryOperation
      */
     public static Indicator<Boolean> isAfter(Indicator<Instant> left, Indicator<Instant> right) {
-        return binaryOperation(Instant::isAfter, left, right);
+        return comparison(c -> c > 0, Instant::isAfter, left, right);
     }
 
     /**
@@ -168,7 +173,7 @@ public final class InstantBinaryOperations {
      * @see BinaryOperation
      */
     public static Indicator<Boolean> isAfterOrEqual(Indicator<Instant> left, Indicator<Instant> right) {
-        return binaryOperation((l, r) -> !l.isBefore(r), left, right);
+        return comparison(c -> c >= 0, (l, r) -> !l.isBefore(r), left, right);
     }
 
     /**
@@ -420,4 +425,13 @@ public final class InstantBinaryOperations {
         return binaryOperation((l, r) ->
                 !l.atZone(zoneId).toLocalDate().isBefore(r.atZone(zoneId).toLocalDate()), left, right);
     }
+
+    private static Indicator<Boolean> comparison(IntPredicate predicate, BiFunction<Instant, Instant, Boolean> operator,
+            Indicator<Instant> left, Indicator<Instant> right) {
+        if (left instanceof EpochNanosIndicator epochNanosLeft &&
+                right instanceof EpochNanosIndicator epochNanosRight) {
+            return epochNanosComparison(predicate, epochNanosLeft, epochNanosRight);
+        }
+        return binaryOperation(operator, left, right);
+    }
 }
@@ -0,0 +1,208 @@
+package trade.invision.indicators.indicators.operation.shortcircuit;
+
+import lombok.Getter;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.operation.ternary.LazyTernaryOperation;
+import trade.invision.indicators.indicators.operation.unary.UnaryOperation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.lang.Math.max;
+
+/**
+ * {@link ShortCircuitOperation} is a {@link Boolean} {@link Indicator} that performs a short-circuit
+ * {@link ShortCircuitOperator} on any number of {@link Boolean} operands. Operands are calculated in order until one of
+ * them equals {@link ShortCircuitOperator#getShortCircuitValue()}, so the remaining operands and their whole subgraphs
+ * are skipped.
+ * <p>
+ * If {@link #isAdaptive()} is <code>true</code>, then this {@link ShortCircuitOperation} measures the evaluation cost
+ * of each operand (sampled via {@link System#nanoTime()}) and the rate at which each operand short-circuits, and
+ * periodically reorders its operands by ascending cost divided by short-circuit rate, which minimizes the expected cost
+ * of each calculation for independent operands. Since <i>AND</i> and <i>OR</i> are commutative, reordering never
+ * changes the result. Use {@link #adaptive(Indicator)} to rewrite a tree built from
+ * {@link trade.invision.indicators.indicators.operation.binary.BooleanBinaryOperations#and(Indicator, Indicator)} and
+ * {@link trade.invision.indicators.indicators.operation.binary.BooleanBinaryOperations#or(Indicator, Indicator)} into
+ * adaptive {@link ShortCircuitOperation}s, including those beneath
+ * {@link trade.invision.indicators.indicators.operation.unary.BooleanUnaryOperations#not(Indicator)} and the
+ * {@link trade.invision.indicators.indicators.operation.ternary.BooleanTernaryOperations} <i>if-else</i> operands.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Short-circuit_evaluation">Wikipedia</a>
+ */
+public class ShortCircuitOperation extends Indicator<Boolean> {
+
+    /**
+     * The number of calculations between operand reorderings.
+     */
+    private static final int REORDER_INTERVAL = 64;
+    /**
+     * Operand evaluation costs are only measured for one in this many calculations, since {@link System#nanoTime()}
+     * may cost as much as a cheap operand.
+     */
+    private static final int COST_SAMPLE_INTERVAL = 8;
+    /**
+     * The weight of a new observation in the exponentially weighted statistics.
+     */
+    private static final double STATISTIC_WEIGHT = 0.05;
+    /**
+     * The minimum short-circuit rate, which avoids a division by zero for an operand that never short-circuits.
+     */
+    private static final double MINIMUM_SHORT_CIRCUIT_RATE = 1e-3;
+
+    /**
+     * Gets a {@link ShortCircuitOperation}.
+     *
+     * @param operator the {@link ShortCircuitOperator}
+     * @param operands the non-empty {@link List} of {@link Boolean} {@link Indicator} operands, in initial evaluation
+     *                 order
+     * @param adaptive <code>true</code> to reorder operands by measured cost and selectivity, <code>false</code> to
+     *                 always evaluate operands in the given order
+     */
+    public static ShortCircuitOperation shortCircuitOperation(ShortCircuitOperator operator,
+            List<Indicator<Boolean>> operands, boolean adaptive) {
+        return new ShortCircuitOperation(operator, operands, adaptive);
+    }
+
+    /**
+     * Rewrites the given {@link Boolean} {@link Indicator} expression so that every {@link ShortCircuitOperation} in
+     * it is {@link #isAdaptive()} and nested {@link ShortCircuitOperation}s with the same
+     * {@link ShortCircuitOperator} are flattened into one, which lets operands be reordered across the whole
+     * <i>AND</i> or <i>OR</i> chain. The rewrite recurses through the operands of {@link UnaryOperation}s, such as
+     * <i>NOT</i>, and {@link LazyTernaryOperation}s, such as <i>if-else</i>, which are recreated only if one of their
+     * operands was rewritten. Other {@link Indicator}s are reused as-is.
+     *
+     * @param expression the {@link Boolean} {@link Indicator} expression
+     *
+     * @return the adaptive {@link Boolean} {@link Indicator} expression, or <code>expression</code> if it contains no
+     * {@link ShortCircuitOperation}
+     */
+    public static Indicator<Boolean> adaptive(Indicator<Boolean> expression) {
+        return rewriteAdaptive(expression);
+    }
+
+    private static <T> Indicator<T> rewriteAdaptive(Indicator<T> expression) {
+        if (expression instanceof UnaryOperation<?, T> unaryOperation) {
+            return rewriteAdaptive(unaryOperation);
+        }
+        if (expression instanceof LazyTernaryOperation<?, ?, ?, T> lazyTernaryOperation) {
+            return rewriteAdaptive(lazyTernaryOperation);
+        }
+        if (!(expression instanceof ShortCircuitOperation operation)) {
+            return expression;
+        }
+        final List<Indicator<Boolean>> operands = new ArrayList<>();
+        operation.flattenInto(operation.operator, operands);
+        operands.replaceAll(ShortCircuitOperation::rewriteAdaptive);
+        @SuppressWarnings("unchecked") // 'T' is 'Boolean'
+        final Indicator<T> rewritten = (Indicator<T>) (operands.size() == 1 ? operands.getFirst() :
+                new ShortCircuitOperation(operation.operator, operands, true));
+        return rewritten;
+    }
+
+    private static <I, R> Indicator<R> rewriteAdaptive(UnaryOperation<I, R> operation) {
+        final Indicator<I> operand = rewriteAdaptive(operation.getOperand());
+        return operand == operation.getOperand() ? operation : operation.withOperand(operand);
+    }
+
+    private static <A, B, C, R> Indicator<R> rewriteAdaptive(LazyTernaryOperation<A, B, C, R> operation) {
+        final Indicator<A> firstOperand = rewriteAdaptive(operation.getFirstOperand());
+        final Indicator<B> secondOperand = rewriteAdaptive(operation.getSecondOperand());
+        final Indicator<C> thirdOperand = rewriteAdaptive(operation.getThirdOperand());
+        if (firstOperand == operation.getFirstOperand() && secondOperand == operation.getSecondOperand() &&
+                thirdOperand == operation.getThirdOperand()) {
+            return operation;
+        }
+        return operation.withOperands(firstOperand, secondOperand, thirdOperand);
+    }
+
+    /**
+     * The {@link ShortCircuitOperator} of this {@link ShortCircuitOperation}.
+     */
+    private final @Getter ShortCircuitOperator operator;
+    private final Indicator<Boolean>[] operands;
+    /**
+     * <code>true</code> if operands are reordered by measured cost and selectivity, <code>false</code> if operands are
+     * always evaluated in the given order.
+     */
+    private final @Getter boolean adaptive;
+    private final int[] order;
+    private final double[] costs;
+    private final double[] shortCircuitRates;
+    private long calculationCount;
+
+    @SuppressWarnings("unchecked")
+    protected ShortCircuitOperation(ShortCircuitOperator operator, List<Indicator<Boolean>> operands,
+            boolean adaptive) {
+        super(operands.getFirst().getSeries(),
+                operands.stream().mapToInt(Indicator::getMinimumStableIndex).max().orElse(0));
+        this.operator = operator;
+        this.operands = operands.toArray(Indicator[]::new);
+        this.adaptive = adaptive;
+        order = new int[this.operands.length];
+        Arrays.setAll(order, operandIndex -> operandIndex);
+        costs = new double[this.operands.length];
+        shortCircuitRates = new double[this.operands.length];
+        Arrays.fill(shortCircuitRates, 0.5);
+    }
+
+    private void flattenInto(ShortCircuitOperator flattenOperator, List<Indicator<Boolean>> flattened) {
+        for (Indicator<Boolean> operand : operands) {
+            if (operand instanceof ShortCircuitOperation operation && operation.operator == flattenOperator) {
+                operation.flattenInto(flattenOperator, flattened);
+            } else {
+                flattened.add(operand);
+            }
+        }
+    }
+
+    @Override
+    protected Boolean calculate(long index) {
+        final boolean shortCircuitValue = operator.getShortCircuitValue();
+        if (!adaptive) {
+            for (Indicator<Boolean> operand : operands) {
+                if (operand.getValue(index) == shortCircuitValue) {
+                    return shortCircuitValue;
+                }
+            }
+            return !shortCircuitValue;
+        }
+        final boolean sampleCost = calculationCount % COST_SAMPLE_INTERVAL == 0;
+        boolean result = !shortCircuitValue;
+        for (int operandIndex : order) {
+            final long start = sampleCost ? System.nanoTime() : 0;
+            final boolean value = operands[operandIndex].getValue(index);
+            if (sampleCost) {
+                costs[operandIndex] += (System.nanoTime() - start - costs[operandIndex]) * STATISTIC_WEIGHT;
+            }
+            final boolean shortCircuited = value == shortCircuitValue;
+            shortCircuitRates[operandIndex] +=
+                    ((shortCircuited ? 1 : 0) - shortCircuitRates[operandIndex]) * STATISTIC_WEIGHT;
+            if (shortCircuited) {
+                result = shortCircuitValue;
+                break;
+            }
+        }
+        if (++calculationCount % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private void reorder() {
+        final Integer[] boxedOrder = Arrays.stream(order).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxedOrder, Comparator.comparingDouble(operandIndex ->
+                costs[operandIndex] / max(shortCircuitRates[operandIndex], MINIMUM_SHORT_CIRCUIT_RATE)));
+        for (int orderIndex = 0; orderIndex < order.length; orderIndex++) {
+            order[orderIndex] = boxedOrder[orderIndex];
+        }
+    }
+
+    /**
+     * @return the operands in their current evaluation order
+     */
+    public List<Indicator<Boolean>> getOperands() {
+        return Arrays.stream(order).mapToObj(operandIndex -> operands[operandIndex]).toList();
+    }
+}
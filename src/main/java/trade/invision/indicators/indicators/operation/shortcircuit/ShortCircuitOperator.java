@@ -0,0 +1,32 @@
+package trade.invision.indicators.indicators.operation.shortcircuit;
+
+/**
+ * {@link ShortCircuitOperator} is an enum of the commutative logical operators that {@link ShortCircuitOperation}
+ * supports.
+ */
+public enum ShortCircuitOperator {
+
+    /**
+     * The logical <i>AND</i> operator, which short-circuits on the first <code>false</code> operand.
+     */
+    AND(false),
+
+    /**
+     * The logical <i>OR</i> operator, which short-circuits on the first <code>true</code> operand.
+     */
+    OR(true);
+
+    private final boolean shortCircuitValue;
+
+    ShortCircuitOperator(boolean shortCircuitValue) {
+        this.shortCircuitValue = shortCircuitValue;
+    }
+
+    /**
+     * @return the operand value that determines the result of this {@link ShortCircuitOperator}, which is also the
+     * result
+     */
+    public boolean getShortCircuitValue() {
+        return shortCircuitValue;
+    }
+}
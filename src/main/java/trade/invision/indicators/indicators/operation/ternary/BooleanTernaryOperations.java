@@ -2,7 +2,7 @@ package trade.invision.indicators.indicators.operation.ternary;
 
 import trade.invision.indicators.indicators.Indicator;
 
-import static trade.invision.indicators.indicators.operation.ternary.TernaryOperation.ternaryOperation;
+import static trade.invision.indicators.indicators.operation.ternary.LazyTernaryOperation.lazyTernaryOperation;
 
 /**
  * {@link BooleanTernaryOperations} provides convenience static methods for creating {@link Boolean}
@@ -12,6 +12,7 @@ public final class BooleanTernaryOperations {
 
     /**
      * Creates a {@link Boolean} {@link Indicator} that performs an if-else ternary operation on the given operands.
+     * Only the operand selected by <code>conditional</code> is calculated.
      *
      * @param conditional    the conditional
      * @param trueCondition  the true condition
@@ -19,10 +20,11 @@ public final class BooleanTernaryOperations {
      *
      * @return the {@link Boolean} {@link Indicator}
      *
-     * @see TernaryOperation
+     * @see LazyTernaryOperation
      */
     public static Indicator<Boolean> ifElse(Indicator<Boolean> conditional,
             Indicator<Boolean> trueCondition, Indicator<Boolean> falseCondition) {
-        return ternaryOperation((c, t, f) -> c ? t : f, conditional, trueCondition, falseCondition);
+        return lazyTernaryOperation((c, t, f, index) -> c ? t.getValue(index) : f.getValue(index),
+                conditional, trueCondition, falseCondition);
     }
 }
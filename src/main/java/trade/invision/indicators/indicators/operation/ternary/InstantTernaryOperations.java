@@ -4,6 +4,7 @@ import trade.invision.indicators.indicators.Indicator;
 
 import java.time.Instant;
 
+import static trade.invision.indicators.indicators.operation.ternary.LazyTernaryOperation.lazyTernaryOperation;
 import static trade.invision.indicators.indicators.operation.ternary.TernaryOperation.ternaryOperation;
 
 /**
@@ -31,6 +32,7 @@ public final class InstantTernaryOperations {
 
     /**
      * Creates an {@link Instant} {@link Indicator} that performs an if-else ternary operation on the given operands.
+     * Only the operand selected by <code>conditional</code> is calculated.
      *
      * @param conditional    the conditional
      * @param trueCondition  the true condition
@@ -38,10 +40,11 @@ public final class InstantTernaryOperations {
      *
      * @return the {@link Instant} {@link Indicator}
      *
-     * @see TernaryOperation
+     * @see LazyTernaryOperation
      */
     public static Indicator<Instant> ifElse(Indicator<Boolean> conditional,
             Indicator<Instant> trueCondition, Indicator<Instant> falseCondition) {
-        return ternaryOperation((c, t, f) -> c ? t : f, conditional, trueCondition, falseCondition);
+        return lazyTernaryOperation((c, t, f, index) -> c ? t.getValue(index) : f.getValue(index),
+                conditional, trueCondition, falseCondition);
     }
 }
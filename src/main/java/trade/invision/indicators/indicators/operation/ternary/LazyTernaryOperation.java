@@ -0,0 +1,81 @@
+package trade.invision.indicators.indicators.operation.ternary;
+
+import lombok.Getter;
+import trade.invision.indicators.indicators.Indicator;
+
+import static java.lang.Math.max;
+
+/**
+ * {@link LazyTernaryOperation} is an {@link Indicator} that performs a ternary operation on three input
+ * {@link Indicator}s, where the second and third operands are only calculated if the {@link LazyTriFunction} needs
+ * them. This is used for operations such as if-else, where only the selected branch is calculated. Since the second and
+ * third operands may not be calculated at every <code>index</code>, an operand that uses an optimized calculation for
+ * consecutive <code>index</code>es may need to recalculate its full range when it is calculated again.
+ *
+ * @param <A> the first input type
+ * @param <B> the second input type
+ * @param <C> the third input type
+ * @param <R> the result type
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Short-circuit_evaluation">Wikipedia</a>
+ */
+public class LazyTernaryOperation<A, B, C, R> extends Indicator<R> {
+
+    /**
+     * Gets a {@link LazyTernaryOperation}.
+     *
+     * @param operator      the {@link LazyTriFunction}
+     * @param firstOperand  the first {@link Indicator} operand, which is always calculated
+     * @param secondOperand the second {@link Indicator} operand, which is calculated only if needed
+     * @param thirdOperand  the third {@link Indicator} operand, which is calculated only if needed
+     */
+    public static <A, B, C, R> LazyTernaryOperation<A, B, C, R> lazyTernaryOperation(
+            LazyTriFunction<A, B, C, R> operator,
+            Indicator<A> firstOperand, Indicator<B> secondOperand, Indicator<C> thirdOperand) {
+        return new LazyTernaryOperation<>(operator, firstOperand, secondOperand, thirdOperand);
+    }
+
+    private final LazyTriFunction<A, B, C, R> operator;
+    /**
+     * The first {@link Indicator} operand.
+     */
+    private final @Getter Indicator<A> firstOperand;
+    /**
+     * The second {@link Indicator} operand.
+     */
+    private final @Getter Indicator<B> secondOperand;
+    /**
+     * The third {@link Indicator} operand.
+     */
+    private final @Getter Indicator<C> thirdOperand;
+
+    protected LazyTernaryOperation(LazyTriFunction<A, B, C, R> operator,
+            Indicator<A> firstOperand, Indicator<B> secondOperand, Indicator<C> thirdOperand) {
+        super(firstOperand.getSeries(), max(firstOperand.getMinimumStableIndex(),
+                max(secondOperand.getMinimumStableIndex(), thirdOperand.getMinimumStableIndex())));
+        this.operator = operator;
+        this.firstOperand = firstOperand;
+        this.secondOperand = secondOperand;
+        this.thirdOperand = thirdOperand;
+    }
+
+    @Override
+    protected R calculate(long index) {
+        return operator.apply(firstOperand.getValue(index), secondOperand, thirdOperand, index);
+    }
+
+    /**
+     * Gets a new {@link LazyTernaryOperation} with the same operator as this {@link LazyTernaryOperation} and the given
+     * operands.
+     *
+     * @param firstOperand  the first {@link Indicator} operand
+     * @param secondOperand the second {@link Indicator} operand
+     * @param thirdOperand  the third {@link Indicator} operand
+     *
+     * @return the {@link LazyTernaryOperation}
+     */
+    public LazyTernaryOperation<A, B, C, R> withOperands(Indicator<A> firstOperand, Indicator<B> secondOperand,
+            Indicator<C> thirdOperand) {
+        return new LazyTernaryOperation<>(operator, firstOperand, secondOperand, thirdOperand);
+    }
+}
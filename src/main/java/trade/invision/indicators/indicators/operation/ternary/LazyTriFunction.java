@@ -0,0 +1,31 @@
+package trade.invision.indicators.indicators.operation.ternary;
+
+import trade.invision.indicators.indicators.Indicator;
+
+/**
+ * {@link LazyTriFunction} is a {@link TriFunction} that receives the value of its first operand, but receives its
+ * second and third operands as {@link Indicator}s along with the <code>index</code>, so that the second and third
+ * operands are only calculated if they are needed.
+ *
+ * @param <A> the type of the first argument to the function
+ * @param <B> the type of the second operand
+ * @param <C> the type of the third operand
+ * @param <R> the type of the result of the function
+ *
+ * @see LazyTernaryOperation
+ */
+@FunctionalInterface
+public interface LazyTriFunction<A, B, C, R> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param a     the first function argument
+     * @param b     the second operand, which should only have {@link Indicator#getValue(long)} called if needed
+     * @param c     the third operand, which should only have {@link Indicator#getValue(long)} called if needed
+     * @param index the index to calculate <code>b</code> and <code>c</code> at
+     *
+     * @return the function result
+     */
+    R apply(A a, Indicator<B> b, Indicator<C> c, long index);
+}
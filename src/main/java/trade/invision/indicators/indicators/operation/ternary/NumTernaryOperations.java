@@ -3,6 +3,7 @@ package trade.invision.indicators.indicators.operation.ternary;
 import trade.invision.indicators.indicators.Indicator;
 import trade.invision.num.Num;
 
+import static trade.invision.indicators.indicators.operation.ternary.LazyTernaryOperation.lazyTernaryOperation;
 import static trade.invision.indicators.indicators.operation.ternary.TernaryOperation.ternaryOperation;
 
 /**
@@ -46,6 +47,7 @@ public final class NumTernaryOperations {
 
     /**
      * Creates a {@link Num} {@link Indicator} that performs an if-else ternary operation on the given operands.
+     * Only the operand selected by <code>conditional</code> is calculated.
      *
      * @param conditional    the conditional
      * @param trueCondition  the true condition
@@ -53,10 +55,11 @@ public final class NumTernaryOperations {
      *
      * @return the {@link Num} {@link Indicator}
      *
-     * @see TernaryOperation
+     * @see LazyTernaryOperation
      */
     public static Indicator<Num> ifElse(Indicator<Boolean> conditional,
             Indicator<Num> trueCondition, Indicator<Num> falseCondition) {
-        return ternaryOperation((c, t, f) -> c ? t : f, conditional, trueCondition, falseCondition);
+        return lazyTernaryOperation((c, t, f, index) -> c ? t.getValue(index) : f.getValue(index),
+                conditional, trueCondition, falseCondition);
     }
 }
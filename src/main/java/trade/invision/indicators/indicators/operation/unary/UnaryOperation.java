@@ -1,5 +1,6 @@
 package trade.invision.indicators.indicators.operation.unary;
 
+import lombok.Getter;
 import trade.invision.indicators.indicators.Indicator;
 
 import java.util.function.Function;
@@ -25,7 +26,10 @@ public class UnaryOperation<I, R> extends Indicator<R> {
     }
 
     private final Function<I, R> operator;
-    private final Indicator<I> operand;
+    /**
+     * The {@link Indicator} operand.
+     */
+    private final @Getter Indicator<I> operand;
 
     protected UnaryOperation(Function<I, R> operator, Indicator<I> operand) {
         super(operand.getSeries(), operand.getMinimumStableIndex());
@@ -37,4 +41,16 @@ public class UnaryOperation<I, R> extends Indicator<R> {
     protected R calculate(long index) {
         return operator.apply(operand.getValue(index));
     }
+
+    /**
+     * Gets a new {@link UnaryOperation} with the same operator as this {@link UnaryOperation} and the given
+     * <code>operand</code>.
+     *
+     * @param operand the {@link Indicator} operand
+     *
+     * @return the {@link UnaryOperation}
+     */
+    public UnaryOperation<I, R> withOperand(Indicator<I> operand) {
+        return new UnaryOperation<>(operator, operand);
+    }
 }
@@ -36,7 +36,7 @@ public class PreviousValue<T> extends CachelessIndicator<T> {
     protected PreviousValue(Indicator<T> indicator, int n) {
         super(indicator.getSeries(), n);
         checkArgument(n > 0, "'n' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(n);
         this.n = n;
     }
 
@@ -44,4 +44,9 @@ public class PreviousValue<T> extends CachelessIndicator<T> {
     protected T calculate(long index) {
         return indicator.getValue(max(0, index - n));
     }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return n;
+    }
 }
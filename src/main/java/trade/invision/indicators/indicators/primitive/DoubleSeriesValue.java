@@ -0,0 +1,46 @@
+package trade.invision.indicators.indicators.primitive;
+
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.DoubleSeries;
+import trade.invision.num.Num;
+
+/**
+ * {@link DoubleSeriesValue} is a {@link DoubleIndicator} to provide {@link DoubleSeries#getDouble(long)}. Caching is
+ * permanently disabled, since the values are read directly from the {@link DoubleSeries}.
+ */
+public class DoubleSeriesValue extends DoubleIndicator {
+
+    /**
+     * Gets a {@link DoubleSeriesValue}.
+     *
+     * @param doubleSeries the {@link DoubleSeries}
+     */
+    public static DoubleSeriesValue valueOf(DoubleSeries doubleSeries) {
+        return new DoubleSeriesValue(doubleSeries);
+    }
+
+    private final DoubleSeries doubleSeries;
+
+    protected DoubleSeriesValue(DoubleSeries doubleSeries) {
+        super(doubleSeries, 0);
+        this.doubleSeries = doubleSeries;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return doubleSeries.getDouble(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching() {
+        return (A) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Indicator<Num>> A caching(int lookback) {
+        return (A) this;
+    }
+}
@@ -0,0 +1,117 @@
+package trade.invision.indicators.indicators.primitive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.bar.Close;
+import trade.invision.indicators.indicators.bar.High;
+import trade.invision.indicators.indicators.bar.Low;
+import trade.invision.indicators.indicators.bar.Open;
+import trade.invision.indicators.indicators.bar.TradeCount;
+import trade.invision.indicators.indicators.bar.Volume;
+import trade.invision.indicators.indicators.barprice.Hl2;
+import trade.invision.indicators.indicators.barprice.Hlc3;
+import trade.invision.indicators.indicators.barprice.Ohlc4;
+import trade.invision.indicators.indicators.tr.TrueRange;
+import trade.invision.indicators.series.bar.BarSeries;
+import trade.invision.indicators.series.bar.ColumnarBarSeries;
+import trade.invision.num.Num;
+
+import static trade.invision.indicators.indicators.bar.PrimitiveClose.primitiveClose;
+import static trade.invision.indicators.indicators.bar.PrimitiveHigh.primitiveHigh;
+import static trade.invision.indicators.indicators.bar.PrimitiveLow.primitiveLow;
+import static trade.invision.indicators.indicators.bar.PrimitiveOpen.primitiveOpen;
+import static trade.invision.indicators.indicators.bar.PrimitiveTradeCount.primitiveTradeCount;
+import static trade.invision.indicators.indicators.bar.PrimitiveVolume.primitiveVolume;
+import static trade.invision.indicators.indicators.barprice.PrimitiveHl2.primitiveHl2;
+import static trade.invision.indicators.indicators.barprice.PrimitiveHlc3.primitiveHlc3;
+import static trade.invision.indicators.indicators.barprice.PrimitiveOhlc4.primitiveOhlc4;
+import static trade.invision.indicators.indicators.tr.PrimitiveTrueRange.primitiveTrueRange;
+
+/**
+ * {@link DoubleValue} is a {@link DoubleIndicator} to provide the primitive <code>double</code> value of a {@link Num}
+ * {@link Indicator}. This is the entry point from the {@link Num} {@link Indicator} graph into the primitive
+ * <code>double</code> {@link Indicator} graph.
+ */
+public class DoubleValue extends DoubleIndicator {
+
+    /**
+     * Gets a {@link DoubleIndicator} for the given {@link Num} {@link Indicator}. If <code>indicator</code> is already
+     * a {@link DoubleIndicator}, then it is returned as is. If <code>indicator</code> is a {@link BarSeries} field or
+     * price {@link Indicator}, such as {@link Close}, then its primitive variant, such as
+     * {@link trade.invision.indicators.indicators.bar.PrimitiveClose}, is returned, which reads the
+     * {@link ColumnarBarSeries} columns without creating a {@link Num}.
+     *
+     * @param indicator the {@link Num} {@link Indicator}
+     */
+    public static DoubleIndicator doubleValue(Indicator<Num> indicator) {
+        if (indicator instanceof DoubleIndicator doubleIndicator) {
+            return doubleIndicator;
+        }
+        final DoubleIndicator primitiveBarValue = primitiveBarValue(indicator);
+        if (primitiveBarValue != null) {
+            return primitiveBarValue;
+        }
+        return CACHE.get(new CacheKey(indicator), key -> new DoubleValue(indicator));
+    }
+
+    /**
+     * Gets the primitive variant of the given {@link BarSeries} field or price {@link Indicator}. Only the exact
+     * classes are matched, since a subclass may override its calculation.
+     *
+     * @param indicator the {@link Num} {@link Indicator}
+     *
+     * @return the primitive variant, or <code>null</code> if there is none
+     */
+    private static @Nullable DoubleIndicator primitiveBarValue(Indicator<Num> indicator) {
+        if (!(indicator.getSeries() instanceof BarSeries barSeries)) {
+            return null;
+        }
+        final Class<?> type = indicator.getClass();
+        if (type == Open.class) {
+            return primitiveOpen(barSeries);
+        } else if (type == High.class) {
+            return primitiveHigh(barSeries);
+        } else if (type == Low.class) {
+            return primitiveLow(barSeries);
+        } else if (type == Close.class) {
+            return primitiveClose(barSeries);
+        } else if (type == Volume.class) {
+            return primitiveVolume(barSeries);
+        } else if (type == TradeCount.class) {
+            return primitiveTradeCount(barSeries);
+        } else if (type == Hl2.class) {
+            return primitiveHl2(barSeries);
+        } else if (type == Hlc3.class) {
+            return primitiveHlc3(barSeries);
+        } else if (type == Ohlc4.class) {
+            return primitiveOhlc4(barSeries);
+        } else if (type == TrueRange.class) {
+            return primitiveTrueRange(barSeries);
+        }
+        return null;
+    }
+
+    private static final Cache<CacheKey, DoubleValue> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+    }
+
+    private final Indicator<Num> indicator;
+
+    protected DoubleValue(Indicator<Num> indicator) {
+        super(indicator.getSeries(), indicator.getMinimumStableIndex());
+        this.indicator = indicator;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return indicator.getValue(index).toDouble();
+    }
+}
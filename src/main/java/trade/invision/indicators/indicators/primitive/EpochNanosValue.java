@@ -0,0 +1,59 @@
+package trade.invision.indicators.indicators.primitive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.EpochNanosIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.EpochNanos;
+
+import java.time.Instant;
+
+import static trade.invision.indicators.series.EpochNanos.toEpochNanos;
+
+/**
+ * {@link EpochNanosValue} is an {@link EpochNanosIndicator} to provide the nanoseconds since the epoch of an
+ * {@link Instant} {@link Indicator}. This is the entry point from the {@link Instant} {@link Indicator} graph into the
+ * {@link EpochNanosIndicator} graph. {@link #getEpochNanos(long)} throws an {@link ArithmeticException} for
+ * {@link Instant}s outside the range of {@link EpochNanos}.
+ */
+public class EpochNanosValue extends EpochNanosIndicator {
+
+    /**
+     * Gets an {@link EpochNanosIndicator} for the given {@link Instant} {@link Indicator}. If <code>indicator</code> is
+     * already an {@link EpochNanosIndicator}, then it is returned as is.
+     *
+     * @param indicator the {@link Instant} {@link Indicator}
+     */
+    public static EpochNanosIndicator epochNanosValue(Indicator<Instant> indicator) {
+        if (indicator instanceof EpochNanosIndicator epochNanosIndicator) {
+            return epochNanosIndicator;
+        }
+        return CACHE.get(new CacheKey(indicator), key -> new EpochNanosValue(indicator));
+    }
+
+    private static final Cache<CacheKey, EpochNanosValue> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Instant> indicator;
+    }
+
+    private final Indicator<Instant> indicator;
+
+    protected EpochNanosValue(Indicator<Instant> indicator) {
+        super(indicator.getSeries(), indicator.getMinimumStableIndex());
+        this.indicator = indicator;
+    }
+
+    @Override
+    protected long calculateEpochNanos(long index) {
+        return toEpochNanos(indicator.getValue(index));
+    }
+
+    @Override
+    protected Instant calculate(long index) {
+        return indicator.getValue(index);
+    }
+}
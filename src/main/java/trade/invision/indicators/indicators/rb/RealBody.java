@@ -48,7 +48,6 @@ public class RealBody extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar bar = barSeries.get(index);
-        return bar.getClose().subtract(bar.getOpen());
+        return barSeries.getClose(index).subtract(barSeries.getOpen(index));
     }
 }
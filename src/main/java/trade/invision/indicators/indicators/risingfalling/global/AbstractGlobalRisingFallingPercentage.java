@@ -23,7 +23,7 @@ abstract class AbstractGlobalRisingFallingPercentage extends RecursiveIndicator<
      */
     protected AbstractGlobalRisingFallingPercentage(Indicator<Num> indicator, boolean rising) {
         super(indicator.getSeries(), 1);
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(1);
         predicate = rising ? Num::isGreaterThan : Num::isLessThan;
     }
 
@@ -1,12 +1,15 @@
 package trade.invision.indicators.indicators.risingfalling.local;
 
 import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.cumulative.CumulativeCount;
 import trade.invision.num.Num;
 
-import java.util.function.BiPredicate;
-
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.max;
+import static trade.invision.indicators.indicators.cumulative.CumulativeCount.cumulativeCount;
+import static trade.invision.indicators.indicators.operation.binary.NumBinaryOperations.isGreaterThan;
+import static trade.invision.indicators.indicators.operation.binary.NumBinaryOperations.isLessThan;
+import static trade.invision.indicators.indicators.previous.PreviousValue.previousValue;
 
 /**
  * {@link AbstractLocalRisingFallingPercentage} is an abstract {@link Num} {@link Indicator} for local rising/falling
@@ -14,9 +17,8 @@ import static java.lang.Math.max;
  */
 abstract class AbstractLocalRisingFallingPercentage extends Indicator<Num> {
 
-    private final Indicator<Num> indicator;
     private final int length;
-    private final BiPredicate<Num, Num> predicate;
+    private final CumulativeCount count;
 
     /**
      * Instantiates a new {@link AbstractLocalRisingFallingPercentage}.
@@ -28,22 +30,17 @@ abstract class AbstractLocalRisingFallingPercentage extends Indicator<Num> {
     protected AbstractLocalRisingFallingPercentage(Indicator<Num> indicator, int length, boolean rising) {
         super(indicator.getSeries(), 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
         this.length = length;
-        predicate = rising ? Num::isGreaterThan : Num::isLessThan;
+        final Indicator<Num> cachingIndicator = indicator.caching(1);
+        final Indicator<Num> previousIndicator = previousValue(cachingIndicator);
+        count = cumulativeCount(rising ? isGreaterThan(cachingIndicator, previousIndicator) :
+                isLessThan(cachingIndicator, previousIndicator), length);
     }
 
     @Override
     protected Num calculate(long index) {
-        // TODO this can be optimized similar to 'CumulativeSum'.
-        final long startIndex = max(1, index - length + 1);
-        final long observations = index - startIndex + 1;
-        int count = 0;
-        for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
-            if (predicate.test(indicator.getValue(indicatorIndex), indicator.getValue(indicatorIndex - 1))) {
-                count++;
-            }
-        }
-        return numOf(count).divide(observations);
+        // The predicate is never satisfied at index '0', so it doesn't need to be excluded from 'count'.
+        final long observations = index - max(1, index - length + 1) + 1;
+        return count.getValue(index).divide(observations);
     }
 }
@@ -4,15 +4,17 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.statistical.moments.RunningMoments;
+import trade.invision.indicators.indicators.statistical.moments.RunningMomentsResult;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static trade.invision.indicators.indicators.statistical.Covariance.covariance;
-import static trade.invision.indicators.indicators.statistical.Variance.variance;
+import static trade.invision.indicators.indicators.statistical.moments.RunningMoments.runningMoments;
 
 /**
  * {@link CorrelationCoefficient} is a {@link Num} {@link Indicator} to provide the statistical correlation coefficient
- * (CC) of two {@link Indicator}s over a <code>length</code> of values.
+ * (CC) of two {@link Indicator}s over a <code>length</code> of values. This uses {@link RunningMoments}, so sequential
+ * calculations are constant time.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Pearson_correlation_coefficient">Wikipedia</a>
  */
@@ -32,7 +34,8 @@ public class CorrelationCoefficient extends Indicator<Num> {
      * @param second   the second {@link Indicator}
      * @param length   the number of values to look back at
      * @param unbiased <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the variance and
-     *                 covariance calculations, <code>false</code> to use <code>n</code> (biased)
+     *                 covariance calculations, <code>false</code> to use <code>n</code> (biased). The divisors cancel
+     *                 out, so this does not affect the result.
      */
     public static CorrelationCoefficient correlationCoefficient(Indicator<Num> first, Indicator<Num> second,
             int length, boolean unbiased) {
@@ -51,21 +54,18 @@ public class CorrelationCoefficient extends Indicator<Num> {
         boolean unbiased;
     }
 
-    private final Variance variance1;
-    private final Variance variance2;
-    private final Covariance covariance;
+    private final RunningMoments moments;
 
     protected CorrelationCoefficient(Indicator<Num> first, Indicator<Num> second, int length, boolean unbiased) {
         super(first.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        variance1 = variance(first, length, unbiased);
-        variance2 = variance(second, length, unbiased);
-        covariance = covariance(first, second, length, unbiased);
+        moments = runningMoments(first, second, length);
     }
 
+    @SuppressWarnings("DataFlowIssue")
     @Override
     protected Num calculate(long index) {
-        return covariance.getValue(index)
-                .divide(variance1.getValue(index).multiply(variance2.getValue(index)).squareRoot());
+        final RunningMomentsResult result = moments.getValue(index);
+        return result.getComoment().divide(result.getFirstM2().multiply(result.getSecondM2()).squareRoot());
     }
 }
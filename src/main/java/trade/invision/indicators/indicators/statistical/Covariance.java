@@ -4,16 +4,18 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage;
+import trade.invision.indicators.indicators.statistical.moments.RunningMoments;
+import trade.invision.indicators.indicators.statistical.moments.RunningMomentsResult;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.max;
-import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.simpleMovingAverage;
+import static trade.invision.indicators.indicators.statistical.moments.RunningMoments.runningMoments;
 
 /**
  * {@link Covariance} is a {@link Num} {@link Indicator} to provide the statistical covariance (covar) of two
- * {@link Indicator}s over a <code>length</code> of values.
+ * {@link Indicator}s over a <code>length</code> of values. This uses {@link RunningMoments}, so sequential calculations
+ * are constant time.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Covariance">Wikipedia</a>
  */
@@ -51,35 +53,21 @@ public class Covariance extends Indicator<Num> {
         boolean unbiased;
     }
 
-    private final Indicator<Num> first;
-    private final Indicator<Num> second;
-    private final int length;
     private final boolean unbiased;
-    private final SimpleMovingAverage sma1;
-    private final SimpleMovingAverage sma2;
+    private final RunningMoments moments;
 
     protected Covariance(Indicator<Num> first, Indicator<Num> second, int length, boolean unbiased) {
         super(first.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.first = first.caching();
-        this.second = second.caching();
-        this.length = length;
         this.unbiased = unbiased;
-        sma1 = simpleMovingAverage(first, length);
-        sma2 = simpleMovingAverage(second, length);
+        moments = runningMoments(first, second, length);
     }
 
+    @SuppressWarnings("DataFlowIssue")
     @Override
     protected Num calculate(long index) {
-        final long startIndex = max(0, index - length + 1);
-        final long observations = index - startIndex + 1;
-        final Num average1 = sma1.getValue(index);
-        final Num average2 = sma2.getValue(index);
-        Num covariance = numOfZero();
-        for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
-            covariance = covariance.add(first.getValue(indicatorIndex).subtract(average1)
-                    .multiply(second.getValue(indicatorIndex).subtract(average2)));
-        }
-        return covariance.divide(unbiased ? max(1, observations - 1) : observations);
+        final RunningMomentsResult result = moments.getValue(index);
+        final long observations = result.getObservations();
+        return result.getComoment().divide(unbiased ? max(1, observations - 1) : observations);
     }
 }
@@ -52,7 +52,7 @@ public class MeanDeviation extends Indicator<Num> {
     protected MeanDeviation(Indicator<Num> indicator, int length) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(length - 1);
         this.length = length;
         sma = simpleMovingAverage(indicator, length);
     }
@@ -69,4 +69,9 @@ public class MeanDeviation extends Indicator<Num> {
         }
         return absoluteDeviations.divide(observations);
     }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
 }
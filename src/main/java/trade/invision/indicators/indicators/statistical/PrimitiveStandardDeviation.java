@@ -0,0 +1,59 @@
+package trade.invision.indicators.indicators.statistical;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.sqrt;
+import static trade.invision.indicators.indicators.statistical.PrimitiveVariance.primitiveVariance;
+
+/**
+ * {@link PrimitiveStandardDeviation} is a {@link DoubleIndicator} to provide the statistical standard deviation
+ * (stddev) over a <code>length</code> of values using primitive <code>double</code> arithmetic.
+ *
+ * @see StandardDeviation
+ */
+public class PrimitiveStandardDeviation extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveStandardDeviation}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     * @param unbiased  <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the standard
+     *                  deviation calculation, <code>false</code> to use <code>n</code> (biased)
+     */
+    public static PrimitiveStandardDeviation primitiveStandardDeviation(Indicator<Num> indicator, int length,
+            boolean unbiased) {
+        return CACHE.get(new CacheKey(indicator, length, unbiased),
+                key -> new PrimitiveStandardDeviation(indicator, length, unbiased));
+    }
+
+    private static final Cache<CacheKey, PrimitiveStandardDeviation> CACHE =
+            Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+        boolean unbiased;
+    }
+
+    private final PrimitiveVariance variance;
+
+    protected PrimitiveStandardDeviation(Indicator<Num> indicator, int length, boolean unbiased) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        variance = primitiveVariance(indicator, length, unbiased);
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        return sqrt(variance.getDouble(index));
+    }
+}
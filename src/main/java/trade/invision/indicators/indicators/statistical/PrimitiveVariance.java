@@ -0,0 +1,115 @@
+package trade.invision.indicators.indicators.statistical;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static trade.invision.indicators.indicators.primitive.DoubleValue.doubleValue;
+
+/**
+ * {@link PrimitiveVariance} is a {@link DoubleIndicator} to provide the statistical variance (var) over a
+ * <code>length</code> of values using primitive <code>double</code> arithmetic. Like {@link Variance}, the variance is
+ * updated using Welford's online algorithm, so sequential calculations are constant time.
+ *
+ * @see Variance
+ */
+public class PrimitiveVariance extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveVariance}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     * @param unbiased  <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the variance
+     *                  calculation, <code>false</code> to use <code>n</code> (biased)
+     */
+    public static PrimitiveVariance primitiveVariance(Indicator<Num> indicator, int length, boolean unbiased) {
+        return CACHE.get(new CacheKey(indicator, length, unbiased),
+                key -> new PrimitiveVariance(indicator, length, unbiased));
+    }
+
+    private static final Cache<CacheKey, PrimitiveVariance> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> indicator;
+        int length;
+        boolean unbiased;
+    }
+
+    private final DoubleIndicator indicator;
+    private final int length;
+    private final boolean unbiased;
+    private long previousIndex;
+    private double previousValue;
+    private long observations;
+    private double mean;
+    private double m2;
+
+    protected PrimitiveVariance(Indicator<Num> indicator, int length, boolean unbiased) {
+        super(indicator.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.indicator = doubleValue(indicator).caching(length);
+        this.length = length;
+        this.unbiased = unbiased;
+        previousIndex = -1;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        final double currentValue = indicator.getDouble(index);
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            remove(previousValue);
+            add(currentValue);
+        } else if (index == previousIndex + 1) {
+            add(currentValue);
+            if (index >= length) {
+                remove(indicator.getDouble(index - length));
+            }
+        } else {
+            observations = 0;
+            mean = 0;
+            m2 = 0;
+            for (long indicatorIndex = max(0, index - length + 1); indicatorIndex < index; indicatorIndex++) {
+                add(indicator.getDouble(indicatorIndex));
+            }
+            add(currentValue);
+        }
+        previousIndex = index;
+        previousValue = currentValue;
+        return m2 / (unbiased ? max(1, observations - 1) : observations);
+    }
+
+    private void add(double value) {
+        observations++;
+        final double delta = value - mean;
+        mean += delta / observations;
+        m2 += delta * (value - mean);
+    }
+
+    private void remove(double value) {
+        if (observations <= 1) {
+            observations = 0;
+            mean = 0;
+            m2 = 0;
+            return;
+        }
+        observations--;
+        final double delta = value - mean;
+        mean -= delta / observations;
+        // Rounding errors may cause the M2 to become slightly negative, so clamp it to zero.
+        m2 = max(0, m2 - delta * (value - mean));
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
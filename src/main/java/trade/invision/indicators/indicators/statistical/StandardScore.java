@@ -4,12 +4,12 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage;
+import trade.invision.indicators.indicators.statistical.moments.RunningMoments;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.simpleMovingAverage;
 import static trade.invision.indicators.indicators.statistical.StandardDeviation.standardDeviation;
+import static trade.invision.indicators.indicators.statistical.moments.RunningMoments.runningMoments;
 
 /**
  * {@link StandardScore} is a {@link Num} {@link Indicator} to provide the statistical standard score (z-score) over a
@@ -50,19 +50,20 @@ public class StandardScore extends Indicator<Num> {
     }
 
     private final Indicator<Num> indicator;
-    private final SimpleMovingAverage sma;
+    private final RunningMoments moments;
     private final StandardDeviation standardDeviation;
 
     protected StandardScore(Indicator<Num> indicator, int length, boolean unbiased) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
         this.indicator = indicator;
-        sma = simpleMovingAverage(indicator, length);
+        moments = runningMoments(indicator, length);
         standardDeviation = standardDeviation(indicator, length, unbiased);
     }
 
     @Override
     protected Num calculate(long index) {
-        return indicator.getValue(index).subtract(sma.getValue(index)).divide(standardDeviation.getValue(index));
+        return indicator.getValue(index).subtract(moments.getValue(index).getFirstMean())
+                .divide(standardDeviation.getValue(index));
     }
 }
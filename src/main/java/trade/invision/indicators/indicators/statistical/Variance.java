@@ -4,16 +4,17 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage;
+import trade.invision.indicators.indicators.statistical.moments.RunningMoments;
+import trade.invision.indicators.indicators.statistical.moments.RunningMomentsResult;
 import trade.invision.num.Num;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.max;
-import static trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage.simpleMovingAverage;
+import static trade.invision.indicators.indicators.statistical.moments.RunningMoments.runningMoments;
 
 /**
  * {@link Variance} is a {@link Num} {@link Indicator} to provide the statistical variance (var) over a
- * <code>length</code> of values.
+ * <code>length</code> of values. This uses {@link RunningMoments}, so sequential calculations are constant time.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Variance">Wikipedia</a>
  */
@@ -48,29 +49,20 @@ public class Variance extends Indicator<Num> {
         boolean unbiased;
     }
 
-    private final Indicator<Num> indicator;
-    private final int length;
     private final boolean unbiased;
-    private final SimpleMovingAverage sma;
+    private final RunningMoments moments;
 
     protected Variance(Indicator<Num> indicator, int length, boolean unbiased) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
-        this.indicator = indicator.caching();
-        this.length = length;
         this.unbiased = unbiased;
-        sma = simpleMovingAverage(indicator, length);
+        moments = runningMoments(indicator, length);
     }
 
     @Override
     protected Num calculate(long index) {
-        final long startIndex = max(0, index - length + 1);
-        final long observations = index - startIndex + 1;
-        final Num average = sma.getValue(index);
-        Num variance = numOfZero();
-        for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
-            variance = variance.add(indicator.getValue(indicatorIndex).subtract(average).square());
-        }
-        return variance.divide(unbiased ? max(1, observations - 1) : observations);
+        final RunningMomentsResult result = moments.getValue(index);
+        final long observations = result.getObservations();
+        return result.getFirstM2().divide(unbiased ? max(1, observations - 1) : observations);
     }
 }
@@ -0,0 +1,160 @@
+package trade.invision.indicators.indicators.statistical.moments;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.num.Num;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+
+/**
+ * {@link RunningMoments} is a {@link RunningMomentsResult} {@link Indicator} to provide the running mean, sum of
+ * squared deviations (M2), and co-moment of one or two {@link Num} {@link Indicator}s over a <code>length</code> of
+ * values. The moments are updated using Welford's numerically stable online algorithm, extended to remove the value
+ * leaving the window. Similar to {@link trade.invision.indicators.indicators.cumulative.CumulativeSum}, identical
+ * <code>index</code> and consecutive <code>index</code> calculations are constant time, and other calculations scan the
+ * window. This is the shared calculation engine for the statistical {@link Indicator}s, such as variance and
+ * covariance.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Welford's_online_algorithm">
+ * Wikipedia</a>
+ */
+public class RunningMoments extends Indicator<RunningMomentsResult> {
+
+    /**
+     * Gets a univariate {@link RunningMoments}.
+     *
+     * @param indicator the {@link Indicator}
+     * @param length    the number of values to look back at
+     */
+    public static RunningMoments runningMoments(Indicator<Num> indicator, int length) {
+        return CACHE.get(new CacheKey(indicator, null, length), key -> new RunningMoments(indicator, null, length));
+    }
+
+    /**
+     * Gets a bivariate {@link RunningMoments}.
+     *
+     * @param first  the first {@link Indicator}
+     * @param second the second {@link Indicator}
+     * @param length the number of values to look back at
+     */
+    public static RunningMoments runningMoments(Indicator<Num> first, Indicator<Num> second, int length) {
+        return CACHE.get(new CacheKey(first, second, length), key -> new RunningMoments(first, second, length));
+    }
+
+    private static final Cache<CacheKey, RunningMoments> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        Indicator<Num> first;
+        @Nullable Indicator<Num> second;
+        int length;
+    }
+
+    private final Indicator<Num> first;
+    private final @Nullable Indicator<Num> second;
+    private final int length;
+    private long previousIndex;
+    private Num previousFirstValue;
+    private @Nullable Num previousSecondValue;
+    private long observations;
+    private Num firstMean;
+    private Num firstM2;
+    private Num secondMean;
+    private Num secondM2;
+    private Num comoment;
+
+    protected RunningMoments(Indicator<Num> first, @Nullable Indicator<Num> second, int length) {
+        super(first.getSeries(), length - 1);
+        checkArgument(length > 0, "'length' must be greater than zero!");
+        this.first = first.caching(length);
+        this.second = second == null ? null : second.caching(length);
+        this.length = length;
+        previousIndex = -1;
+        previousFirstValue = numOfZero();
+        reset();
+    }
+
+    @Override
+    protected RunningMomentsResult calculate(long index) {
+        final Num firstValue = first.getValue(index);
+        final Num secondValue = second == null ? null : second.getValue(index);
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            remove(previousFirstValue, previousSecondValue);
+            add(firstValue, secondValue);
+        } else if (index == previousIndex + 1) {
+            add(firstValue, secondValue);
+            if (index >= length) {
+                final long removeIndex = index - length;
+                remove(first.getValue(removeIndex), second == null ? null : second.getValue(removeIndex));
+            }
+        } else {
+            reset();
+            for (long momentIndex = max(0, index - length + 1); momentIndex < index; momentIndex++) {
+                add(first.getValue(momentIndex), second == null ? null : second.getValue(momentIndex));
+            }
+            add(firstValue, secondValue);
+        }
+        previousIndex = index;
+        previousFirstValue = firstValue;
+        previousSecondValue = secondValue;
+        return second == null ?
+                new RunningMomentsResult(observations, firstMean, firstM2, null, null, null) :
+                new RunningMomentsResult(observations, firstMean, firstM2, secondMean, secondM2, comoment);
+    }
+
+    private void reset() {
+        observations = 0;
+        firstMean = numOfZero();
+        firstM2 = numOfZero();
+        secondMean = numOfZero();
+        secondM2 = numOfZero();
+        comoment = numOfZero();
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private void add(Num firstValue, @Nullable Num secondValue) {
+        observations++;
+        final Num firstDelta = firstValue.subtract(firstMean);
+        firstMean = firstMean.add(firstDelta.divide(observations));
+        firstM2 = firstM2.add(firstDelta.multiply(firstValue.subtract(firstMean)));
+        if (second != null) {
+            final Num secondDelta = secondValue.subtract(secondMean);
+            secondMean = secondMean.add(secondDelta.divide(observations));
+            secondM2 = secondM2.add(secondDelta.multiply(secondValue.subtract(secondMean)));
+            // The co-moment uses the previous first mean and the current second mean.
+            comoment = comoment.add(firstDelta.multiply(secondValue.subtract(secondMean)));
+        }
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private void remove(Num firstValue, @Nullable Num secondValue) {
+        if (observations <= 1) {
+            reset();
+            return;
+        }
+        observations--;
+        final Num firstDelta = firstValue.subtract(firstMean);
+        firstMean = firstMean.subtract(firstDelta.divide(observations));
+        // Rounding errors may cause the M2 to become slightly negative, so clamp it to zero.
+        firstM2 = firstM2.subtract(firstDelta.multiply(firstValue.subtract(firstMean))).maximum(numOfZero());
+        if (second != null) {
+            // The co-moment uses the current first mean and the previous second mean.
+            comoment = comoment.subtract(firstValue.subtract(firstMean).multiply(secondValue.subtract(secondMean)));
+            final Num secondDelta = secondValue.subtract(secondMean);
+            secondMean = secondMean.subtract(secondDelta.divide(observations));
+            secondM2 = secondM2.subtract(secondDelta.multiply(secondValue.subtract(secondMean)))
+                    .maximum(numOfZero());
+        }
+    }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
+}
@@ -0,0 +1,41 @@
+package trade.invision.indicators.indicators.statistical.moments;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import trade.invision.num.Num;
+
+/**
+ * {@link RunningMomentsResult} contains the results for {@link RunningMoments}.
+ */
+@Value @AllArgsConstructor @Builder(toBuilder = true)
+public class RunningMomentsResult {
+
+    /**
+     * The number of observations in the window.
+     */
+    long observations;
+    /**
+     * The mean of the first {@link RunningMoments} input.
+     */
+    Num firstMean;
+    /**
+     * The sum of squared deviations from {@link #getFirstMean()} (M2) of the first {@link RunningMoments} input.
+     */
+    Num firstM2;
+    /**
+     * The mean of the second {@link RunningMoments} input, or <code>null</code> if there is no second input.
+     */
+    @Nullable Num secondMean;
+    /**
+     * The sum of squared deviations from {@link #getSecondMean()} (M2) of the second {@link RunningMoments} input, or
+     * <code>null</code> if there is no second input.
+     */
+    @Nullable Num secondM2;
+    /**
+     * The sum of the products of the deviations of both {@link RunningMoments} inputs (co-moment), or
+     * <code>null</code> if there is no second input.
+     */
+    @Nullable Num comoment;
+}
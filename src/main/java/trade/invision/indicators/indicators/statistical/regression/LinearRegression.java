@@ -4,7 +4,6 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Value;
 import trade.invision.indicators.indicators.Indicator;
-import trade.invision.indicators.indicators.cumulative.CumulativeSum;
 import trade.invision.indicators.indicators.statistical.regression.LinearRegressionResult.LinearRegressionResultBuilder;
 import trade.invision.num.Num;
 
@@ -13,8 +12,6 @@ import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.max;
-import static trade.invision.indicators.indicators.cumulative.CumulativeSum.cumulativeSum;
-import static trade.invision.indicators.indicators.meta.indicator.CurrentIndex.currentIndex;
 import static trade.invision.indicators.indicators.operation.unary.UnaryOperation.unaryOperation;
 import static trade.invision.indicators.indicators.statistical.regression.LinearRegressionResultType.INTERCEPT;
 import static trade.invision.indicators.indicators.statistical.regression.LinearRegressionResultType.NEXT_Y;
@@ -26,7 +23,10 @@ import static trade.invision.indicators.indicators.statistical.regression.Linear
 
 /**
  * {@link LinearRegression} is a {@link Num} {@link Indicator} to provide the statistical best fit using the
- * least-squares linear regression model over a <code>length</code> of values.
+ * least-squares linear regression model over a <code>length</code> of values. The sum of <i>y</i>, sum of
+ * <i>xy</i>, and sum of <i>y^2</i> are maintained similar to
+ * {@link trade.invision.indicators.indicators.cumulative.CumulativeSum}, so all {@link LinearRegressionResultType}s are
+ * calculated in constant time for identical <code>index</code> and consecutive <code>index</code> calculations.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Simple_linear_regression">Wikipedia</a>
  */
@@ -115,38 +115,77 @@ public class LinearRegression extends Indicator<LinearRegressionResult> {
     private final Indicator<Num> indicator;
     private final Set<LinearRegressionResultType> resultTypes;
     private final int length;
-    private final CumulativeSum sumX;
-    private final CumulativeSum sumY;
+    private long previousIndex;
+    private Num previousY;
+    private long observations;
+    private Num sumY;
+    private Num sumXY;
+    private Num sumYY;
 
     protected LinearRegression(Indicator<Num> indicator, Set<LinearRegressionResultType> resultTypes, int length) {
         super(indicator.getSeries(), length - 1);
         checkArgument(length > 0, "'length' must be greater than zero!");
         checkArgument(!resultTypes.isEmpty(), "'resultTypes' must not be empty!");
-        this.indicator = indicator.caching();
+        this.indicator = indicator.caching(length);
         this.resultTypes = new HashSet<>(resultTypes);
         this.length = length;
-        sumX = cumulativeSum(currentIndex(series), length);
-        sumY = cumulativeSum(indicator, length);
+        previousIndex = -1;
+        previousY = numOfZero();
+        sumY = numOfZero();
+        sumXY = numOfZero();
+        sumYY = numOfZero();
     }
 
     @Override
     protected LinearRegressionResult calculate(long index) {
-        // Calculation reference: https://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+        // The sums use a window-local x, which is the offset of an index from the window start index. This keeps the
+        // magnitude of the sums independent of 'index', and the sum of x and sum of x^2 have closed forms.
         final long startIndex = max(0, index - length + 1);
-        final long observations = index - startIndex + 1;
-        final Num xBar = sumX.getValue(index).divide(observations);
-        final Num yBar = sumY.getValue(index).divide(observations);
-        Num xxBar = numOfZero();
-        Num xyBar = numOfZero();
-        for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
-            final Num xDelta = numOf(indicatorIndex).subtract(xBar);
-            xxBar = xxBar.add(xDelta.square());
-            xyBar = xyBar.add(xDelta.multiply(indicator.getValue(indicatorIndex).subtract(yBar)));
+        final Num currentY = indicator.getValue(index);
+        // Use optimized calculation for identical 'index' or consecutive 'index'.
+        if (index == previousIndex) {
+            final Num deltaY = currentY.subtract(previousY);
+            sumXY = sumXY.add(deltaY.multiply(observations - 1));
+            sumY = sumY.add(deltaY);
+            sumYY = sumYY.subtract(previousY.square()).add(currentY.square());
+        } else if (index == previousIndex + 1 && index >= length) {
+            // The window slides, so the x of each retained value decreases by one.
+            final Num leavingY = indicator.getValue(index - length);
+            sumY = sumY.subtract(leavingY);
+            sumXY = sumXY.subtract(sumY).add(currentY.multiply(observations - 1));
+            sumY = sumY.add(currentY);
+            sumYY = sumYY.subtract(leavingY.square()).add(currentY.square());
+        } else if (index == previousIndex + 1) {
+            // The window grows.
+            sumXY = sumXY.add(currentY.multiply(observations));
+            sumY = sumY.add(currentY);
+            sumYY = sumYY.add(currentY.square());
+            observations++;
+        } else {
+            observations = 0;
+            sumY = numOfZero();
+            sumXY = numOfZero();
+            sumYY = numOfZero();
+            for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
+                final Num y = indicatorIndex == index ? currentY : indicator.getValue(indicatorIndex);
+                sumXY = sumXY.add(y.multiply(observations));
+                sumY = sumY.add(y);
+                sumYY = sumYY.add(y.square());
+                observations++;
+            }
         }
+        previousIndex = index;
+        previousY = currentY;
+
+        // Calculation reference: https://en.wikipedia.org/wiki/Simple_linear_regression
+        final Num xBar = numOf(observations - 1).divide(numOfTwo());
+        final Num yBar = sumY.divide(observations);
+        final Num xxBar = numOf(observations * (observations * observations - 1)).divide(numOf(12));
+        final Num xyBar = sumXY.subtract(xBar.multiply(sumY));
         final LinearRegressionResultBuilder result = LinearRegressionResult.builder();
         final Num slope = xyBar.divide(xxBar).ifNaN(numOfZero());
         result.slope(slope);
-        final Num intercept = yBar.subtract(slope.multiply(xBar));
+        final Num intercept = yBar.subtract(slope.multiply(xBar.add(numOf(startIndex))));
         result.intercept(intercept);
         if (resultTypes.contains(Y)) {
             result.y(slope.multiply(index).add(intercept));
@@ -155,14 +194,9 @@ public class LinearRegression extends Indicator<LinearRegressionResult> {
             result.nextY(slope.multiply(index + 1).add(intercept));
         }
         if (resultTypes.contains(RSS) || resultTypes.contains(TSS) || resultTypes.contains(R2)) {
-            Num rss = numOfZero();
-            Num tss = numOfZero();
-            for (long indicatorIndex = startIndex; indicatorIndex <= index; indicatorIndex++) {
-                final Num y = indicator.getValue(indicatorIndex);
-                final Num fit = slope.multiply(indicatorIndex).add(intercept);
-                rss = rss.add(fit.subtract(y).square());
-                tss = tss.add(y.subtract(yBar).square());
-            }
+            // Rounding errors may cause the sums of squares to become slightly negative, so clamp them to zero.
+            final Num tss = sumYY.subtract(sumY.multiply(yBar)).maximum(numOfZero());
+            final Num rss = tss.subtract(slope.multiply(xyBar)).maximum(numOfZero());
             result.rss(rss);
             result.tss(tss);
             if (resultTypes.contains(R2)) {
@@ -171,4 +205,9 @@ public class LinearRegression extends Indicator<LinearRegressionResult> {
         }
         return result.build();
     }
+
+    @Override
+    public long getLookback(double tolerance) {
+        return length - 1;
+    }
 }
@@ -0,0 +1,347 @@
+package trade.invision.indicators.indicators.sweep;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.indicators.bb.BollingerBands;
+import trade.invision.indicators.indicators.bb.BollingerBandsResultType;
+import trade.invision.indicators.indicators.ma.MovingAverageSupplier;
+import trade.invision.indicators.indicators.ma.sma.SimpleMovingAverage;
+import trade.invision.indicators.indicators.statistical.StandardDeviation;
+import trade.invision.indicators.indicators.statistical.Variance;
+import trade.invision.indicators.series.Series;
+import trade.invision.num.Num;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static trade.invision.indicators.indicators.ma.MovingAverageType.SIMPLE;
+import static trade.invision.indicators.indicators.primitive.DoubleValue.doubleValue;
+
+/**
+ * {@link LengthSweep} computes a length-parameterized {@link Indicator} for many lengths at once, such as
+ * {@link SimpleMovingAverage}, {@link Variance}, {@link StandardDeviation}, and {@link BollingerBands}, into a
+ * {@link SweepMatrix}. Instead of building an independent {@link Indicator} graph with its own cumulative sum and cache
+ * for every length, the values of {@link #getIndicator()} are read once, and the prefix sums of the values (and of
+ * their squares) are shared by all lengths, so each result is constant time regardless of its length. The prefix sums
+ * restart every largest length values and are of the values minus the first value of their block, so that every
+ * window spans at most two blocks and the rounding error of subtracting two sums is bounded by the spread of the
+ * values within a block instead of growing with the distance from the first value. Results use primitive
+ * <code>double</code> arithmetic, so they may differ from the {@link Num} {@link Indicator}s by rounding.
+ */
+public final class LengthSweep {
+
+    /**
+     * Gets a {@link LengthSweep} over every length from <code>fromLength</code> to <code>toLength</code> (inclusive).
+     *
+     * @param indicator  the {@link Num} {@link Indicator}
+     * @param fromLength the first length (inclusive)
+     * @param toLength   the last length (inclusive)
+     */
+    public static LengthSweep lengthSweep(Indicator<Num> indicator, int fromLength, int toLength) {
+        checkArgument(fromLength > 0, "'fromLength' must be greater than zero!");
+        checkArgument(toLength >= fromLength, "'toLength' must be greater than or equal to 'fromLength'!");
+        return new LengthSweep(indicator, IntStream.rangeClosed(fromLength, toLength).toArray());
+    }
+
+    /**
+     * Gets a {@link LengthSweep} over the given <code>lengths</code>.
+     *
+     * @param indicator the {@link Num} {@link Indicator}
+     * @param lengths   the lengths, which are sorted and deduplicated
+     */
+    public static LengthSweep lengthSweep(Indicator<Num> indicator, Collection<Integer> lengths) {
+        checkArgument(lengths != null && !lengths.isEmpty(), "'lengths' must not be null or empty!");
+        final int[] sortedLengths = lengths.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        checkArgument(sortedLengths[0] > 0, "'lengths' must be greater than zero!");
+        return new LengthSweep(indicator, sortedLengths);
+    }
+
+    /**
+     * The {@link Num} {@link Indicator} to sweep.
+     */
+    private final @Getter Indicator<Num> indicator;
+    private final DoubleIndicator doubleIndicator;
+    private final int[] lengths;
+
+    private LengthSweep(Indicator<Num> indicator, int[] lengths) {
+        this.indicator = indicator;
+        doubleIndicator = doubleValue(indicator);
+        this.lengths = lengths;
+    }
+
+    /**
+     * Gets the swept lengths.
+     *
+     * @return a copy of the lengths in ascending order
+     */
+    public int[] getLengths() {
+        return lengths.clone();
+    }
+
+    /**
+     * Computes the {@link SimpleMovingAverage} of every length from <code>fromIndex</code> to <code>toIndex</code>
+     * (inclusive).
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the {@link SweepMatrix}
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link Indicator#getSeries()}
+     */
+    public SweepMatrix simpleMovingAverages(long fromIndex, long toIndex) {
+        final PrefixSums prefixSums = new PrefixSums(fromIndex, toIndex, false);
+        final SweepMatrix matrix = new SweepMatrix(lengths, fromIndex, toIndex);
+        int valueIndex = 0;
+        for (int length : lengths) {
+            for (long index = fromIndex; index <= toIndex; index++) {
+                matrix.values[valueIndex++] = prefixSums.mean(index, length);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Computes the {@link Variance} of every length from <code>fromIndex</code> to <code>toIndex</code> (inclusive).
+     *
+     * @param unbiased  <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the variance
+     *                  calculation, <code>false</code> to use <code>n</code> (biased)
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the {@link SweepMatrix}
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link Indicator#getSeries()}
+     */
+    public SweepMatrix variances(boolean unbiased, long fromIndex, long toIndex) {
+        final PrefixSums prefixSums = new PrefixSums(fromIndex, toIndex, true);
+        final SweepMatrix matrix = new SweepMatrix(lengths, fromIndex, toIndex);
+        int valueIndex = 0;
+        for (int length : lengths) {
+            for (long index = fromIndex; index <= toIndex; index++) {
+                matrix.values[valueIndex++] = prefixSums.variance(index, length, unbiased);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Computes the {@link StandardDeviation} of every length from <code>fromIndex</code> to <code>toIndex</code>
+     * (inclusive).
+     *
+     * @param unbiased  <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the variance
+     *                  calculation, <code>false</code> to use <code>n</code> (biased)
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the {@link SweepMatrix}
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link Indicator#getSeries()}
+     */
+    public SweepMatrix standardDeviations(boolean unbiased, long fromIndex, long toIndex) {
+        final SweepMatrix matrix = variances(unbiased, fromIndex, toIndex);
+        for (int valueIndex = 0; valueIndex < matrix.values.length; valueIndex++) {
+            matrix.values[valueIndex] = sqrt(matrix.values[valueIndex]);
+        }
+        return matrix;
+    }
+
+    /**
+     * Computes the moving average supplied by the given {@link MovingAverageSupplier} of every length from
+     * <code>fromIndex</code> to <code>toIndex</code> (inclusive). {@link MovingAverageSupplier#getType()}
+     * {@link trade.invision.indicators.indicators.ma.MovingAverageType#SIMPLE} uses the shared prefix sums, and other
+     * types compute the supplied {@link Indicator} of each length over the range.
+     *
+     * @param movingAverageSupplier the {@link MovingAverageSupplier}
+     * @param fromIndex             the first index (inclusive)
+     * @param toIndex               the last index (inclusive)
+     *
+     * @return the {@link SweepMatrix}
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link Indicator#getSeries()}
+     */
+    public SweepMatrix movingAverages(MovingAverageSupplier movingAverageSupplier, long fromIndex, long toIndex) {
+        if (movingAverageSupplier.getType() == SIMPLE) {
+            return simpleMovingAverages(fromIndex, toIndex);
+        }
+        checkRange(fromIndex, toIndex);
+        final SweepMatrix matrix = new SweepMatrix(lengths, fromIndex, toIndex);
+        final int columnCount = matrix.getColumnCount();
+        for (int row = 0; row < lengths.length; row++) {
+            doubleValue(movingAverageSupplier.supply(indicator, lengths[row]))
+                    .computeDoubleRange(fromIndex, toIndex, matrix.values, row * columnCount);
+        }
+        return matrix;
+    }
+
+    /**
+     * Computes the given {@link BollingerBandsResultType} of the {@link BollingerBands} of every length from
+     * <code>fromIndex</code> to <code>toIndex</code> (inclusive). The standard deviations use the shared prefix sums,
+     * and the middle bands are computed via {@link #movingAverages(MovingAverageSupplier, long, long)}.
+     *
+     * @param resultType            the {@link BollingerBandsResultType}
+     * @param multiplier            the multiplier (typically 2)
+     * @param movingAverageSupplier the {@link MovingAverageSupplier}
+     * @param unbiased              <code>true</code> to use <code>n - 1</code> (unbiased) for the divisor in the
+     *                              standard deviation calculation, <code>false</code> to use <code>n</code> (biased)
+     * @param fromIndex             the first index (inclusive)
+     * @param toIndex               the last index (inclusive)
+     *
+     * @return the {@link SweepMatrix}
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of {@link Indicator#getSeries()}
+     */
+    public SweepMatrix bollingerBands(BollingerBandsResultType resultType, double multiplier,
+            MovingAverageSupplier movingAverageSupplier, boolean unbiased, long fromIndex, long toIndex) {
+        final SweepMatrix matrix = movingAverages(movingAverageSupplier, fromIndex, toIndex);
+        if (resultType == BollingerBandsResultType.MIDDLE_BAND) {
+            return matrix;
+        }
+        final PrefixSums prefixSums = new PrefixSums(fromIndex, toIndex, true);
+        int valueIndex = 0;
+        for (int length : lengths) {
+            for (long index = fromIndex; index <= toIndex; index++) {
+                final double middleBand = matrix.values[valueIndex];
+                final double stdDevMultiplied = sqrt(prefixSums.variance(index, length, unbiased)) * multiplier;
+                final double upperBand = middleBand + stdDevMultiplied;
+                final double lowerBand = middleBand - stdDevMultiplied;
+                matrix.values[valueIndex++] = switch (resultType) {
+                    case MIDDLE_BAND -> middleBand;
+                    case UPPER_BAND -> upperBand;
+                    case LOWER_BAND -> lowerBand;
+                    case BANDWIDTH -> (upperBand - lowerBand) / middleBand;
+                    case PERCENT_B -> (prefixSums.value(index) - lowerBand) / (upperBand - lowerBand);
+                };
+            }
+        }
+        return matrix;
+    }
+
+    private void checkRange(long fromIndex, long toIndex) {
+        final Series<?> series = indicator.getSeries();
+        if (fromIndex > toIndex || fromIndex < series.getStartIndex() || toIndex > series.getEndIndex()) {
+            throw new IndexOutOfBoundsException(format("startIndex=%d, endIndex=%d, fromIndex=%d, toIndex=%d",
+                    series.getStartIndex(), series.getEndIndex(), fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * {@link PrefixSums} contains the values of {@link #indicator} needed by every length for a range, and the prefix
+     * sums of the values (and optionally of their squares). The values are split into blocks of the largest length, and
+     * the prefix sums restart at every block and are of the values minus the first value of their block, so a window
+     * spans at most two blocks whose results are combined. As in the length-parameterized {@link Indicator}s, the
+     * window of a length at an index starts at <code>max(0, index - length + 1)</code>.
+     */
+    private final class PrefixSums {
+
+        private final long baseIndex;
+        private final int blockLength;
+        private final double[] values;
+        /**
+         * The first value of each block, which is subtracted from the values of the block.
+         */
+        private final double[] shifts;
+        /**
+         * The prefix sums, where the element at position <code>p + 1</code> is the sum of the shifted values from the
+         * start of the block of position <code>p</code> to position <code>p</code> (inclusive).
+         */
+        private final double[] sums;
+        private final @Nullable double[] squareSums;
+
+        private PrefixSums(long fromIndex, long toIndex, boolean squares) {
+            checkRange(fromIndex, toIndex);
+            blockLength = lengths[lengths.length - 1];
+            baseIndex = max(0, fromIndex - blockLength + 1);
+            values = new double[(int) (toIndex - baseIndex + 1)];
+            final long startIndex = max(baseIndex, indicator.getSeries().getStartIndex());
+            for (long index = baseIndex; index < startIndex; index++) {
+                values[(int) (index - baseIndex)] = doubleIndicator.getDouble(index);
+            }
+            doubleIndicator.computeDoubleRange(startIndex, toIndex, values, (int) (startIndex - baseIndex));
+            shifts = new double[(values.length + blockLength - 1) / blockLength];
+            sums = new double[values.length + 1];
+            squareSums = squares ? new double[values.length + 1] : null;
+            double shift = 0;
+            for (int position = 0; position < values.length; position++) {
+                final boolean blockStart = position % blockLength == 0;
+                if (blockStart) {
+                    shift = values[position];
+                    shifts[position / blockLength] = shift;
+                }
+                final double shifted = values[position] - shift;
+                sums[position + 1] = (blockStart ? 0 : sums[position]) + shifted;
+                if (squareSums != null) {
+                    squareSums[position + 1] = (blockStart ? 0 : squareSums[position]) + shifted * shifted;
+                }
+            }
+        }
+
+        private double value(long index) {
+            return values[(int) (index - baseIndex)];
+        }
+
+        private double mean(long index, int length) {
+            final int toPosition = (int) (index - baseIndex + 1);
+            final int fromPosition = (int) (max(0, index - length + 1) - baseIndex);
+            final int firstBlock = fromPosition / blockLength;
+            final int lastBlock = (toPosition - 1) / blockLength;
+            if (firstBlock == lastBlock) {
+                return shifts[firstBlock] + blockSum(sums, fromPosition, toPosition) / (toPosition - fromPosition);
+            }
+            final int splitPosition = lastBlock * blockLength;
+            return (shifts[firstBlock] * (splitPosition - fromPosition) + blockSum(sums, fromPosition, splitPosition) +
+                    shifts[lastBlock] * (toPosition - splitPosition) + blockSum(sums, splitPosition, toPosition)) /
+                    (toPosition - fromPosition);
+        }
+
+        @SuppressWarnings("DataFlowIssue")
+        private double variance(long index, int length, boolean unbiased) {
+            final int toPosition = (int) (index - baseIndex + 1);
+            final int fromPosition = (int) (max(0, index - length + 1) - baseIndex);
+            final long observations = toPosition - fromPosition;
+            final int firstBlock = fromPosition / blockLength;
+            final int lastBlock = (toPosition - 1) / blockLength;
+            final double m2;
+            if (firstBlock == lastBlock) {
+                m2 = m2(fromPosition, toPosition);
+            } else {
+                // Combine the two blocks of the window as in the parallel algorithm of Chan et al.
+                final int splitPosition = lastBlock * blockLength;
+                final int firstObservations = splitPosition - fromPosition;
+                final int lastObservations = toPosition - splitPosition;
+                // Subtract the shifts first, since they are large compared to the shifted means.
+                final double delta = shifts[lastBlock] - shifts[firstBlock] +
+                        (blockSum(sums, splitPosition, toPosition) / lastObservations -
+                                blockSum(sums, fromPosition, splitPosition) / firstObservations);
+                m2 = m2(fromPosition, splitPosition) + m2(splitPosition, toPosition) +
+                        delta * delta * firstObservations * lastObservations / observations;
+            }
+            return m2 / (unbiased ? max(1, observations - 1) : observations);
+        }
+
+        /**
+         * Gets the sum of the squared differences from the mean of the values from <code>fromPosition</code>
+         * (inclusive) to <code>toPosition</code> (exclusive), which must be in the same block.
+         */
+        @SuppressWarnings("DataFlowIssue")
+        private double m2(int fromPosition, int toPosition) {
+            final double sum = blockSum(sums, fromPosition, toPosition);
+            // Rounding errors may cause the M2 to become slightly negative, so clamp it to zero.
+            return max(0, blockSum(squareSums, fromPosition, toPosition) - sum * sum / (toPosition - fromPosition));
+        }
+
+        /**
+         * Gets the sum of the given block-local <code>prefixSums</code> from <code>fromPosition</code> (inclusive) to
+         * <code>toPosition</code> (exclusive), which must be in the same block.
+         */
+        private double blockSum(double[] prefixSums, int fromPosition, int toPosition) {
+            return prefixSums[toPosition] - (fromPosition % blockLength == 0 ? 0 : prefixSums[fromPosition]);
+        }
+    }
+}
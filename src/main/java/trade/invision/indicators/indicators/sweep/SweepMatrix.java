@@ -0,0 +1,99 @@
+package trade.invision.indicators.indicators.sweep;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOfRange;
+
+/**
+ * {@link SweepMatrix} is a dense matrix of the primitive <code>double</code> results of a {@link LengthSweep}, with one
+ * row per length and one column per index. The values of each row are stored contiguously in a single array.
+ */
+public final class SweepMatrix {
+
+    private final int[] lengths;
+    /**
+     * The index of the first column (inclusive).
+     */
+    private final @Getter long fromIndex;
+    /**
+     * The index of the last column (inclusive).
+     */
+    private final @Getter long toIndex;
+    private final int columnCount;
+    final double[] values;
+
+    SweepMatrix(int[] lengths, long fromIndex, long toIndex) {
+        this.lengths = lengths;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        columnCount = toIntExact(toIndex - fromIndex + 1);
+        values = new double[toIntExact((long) lengths.length * columnCount)];
+    }
+
+    /**
+     * Gets the lengths of the rows.
+     *
+     * @return a copy of the lengths in ascending order
+     */
+    public int[] getLengths() {
+        return lengths.clone();
+    }
+
+    /**
+     * @return the number of rows, which is the number of lengths
+     */
+    public int getRowCount() {
+        return lengths.length;
+    }
+
+    /**
+     * @return the number of columns, which is the number of indices
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Gets the result of the given <code>length</code> at the given <code>index</code>.
+     *
+     * @param length the length of the row
+     * @param index  the index of the column
+     *
+     * @return the result
+     *
+     * @throws IllegalArgumentException  thrown if <code>length</code> is not one of {@link #getLengths()}
+     * @throws IndexOutOfBoundsException thrown if <code>index</code> is outside {@link #getFromIndex()} and
+     *                                   {@link #getToIndex()}
+     */
+    public double getDouble(int length, long index) {
+        if (index < fromIndex || index > toIndex) {
+            throw new IndexOutOfBoundsException(format("fromIndex=%d, toIndex=%d, index=%d",
+                    fromIndex, toIndex, index));
+        }
+        return values[rowOffset(length) + (int) (index - fromIndex)];
+    }
+
+    /**
+     * Gets the results of the given <code>length</code>.
+     *
+     * @param length the length of the row
+     *
+     * @return a copy of the row, where the first element is the result at {@link #getFromIndex()}
+     *
+     * @throws IllegalArgumentException thrown if <code>length</code> is not one of {@link #getLengths()}
+     */
+    public double[] getRow(int length) {
+        final int rowOffset = rowOffset(length);
+        return copyOfRange(values, rowOffset, rowOffset + columnCount);
+    }
+
+    private int rowOffset(int length) {
+        final int row = binarySearch(lengths, length);
+        checkArgument(row >= 0, "'length' must be one of the swept lengths!");
+        return row * columnCount;
+    }
+}
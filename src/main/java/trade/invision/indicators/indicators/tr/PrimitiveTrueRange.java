@@ -0,0 +1,56 @@
+package trade.invision.indicators.indicators.tr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import trade.invision.indicators.indicators.DoubleIndicator;
+import trade.invision.indicators.series.bar.Bar;
+import trade.invision.indicators.series.bar.BarSeries;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+
+/**
+ * {@link PrimitiveTrueRange} is a {@link DoubleIndicator} to provide the True Range (TR) of a {@link Bar} using the
+ * primitive <code>double</code> getters of {@link BarSeries}.
+ *
+ * @see TrueRange
+ */
+public class PrimitiveTrueRange extends DoubleIndicator {
+
+    /**
+     * Gets a {@link PrimitiveTrueRange}.
+     *
+     * @param barSeries the {@link BarSeries}
+     */
+    public static PrimitiveTrueRange primitiveTrueRange(BarSeries barSeries) {
+        return CACHE.get(new CacheKey(barSeries), key -> new PrimitiveTrueRange(barSeries));
+    }
+
+    private static final Cache<CacheKey, PrimitiveTrueRange> CACHE = Caffeine.newBuilder().weakValues().build();
+
+    @Value
+    private static class CacheKey {
+
+        BarSeries barSeries;
+    }
+
+    private final BarSeries barSeries;
+
+    protected PrimitiveTrueRange(BarSeries barSeries) {
+        super(barSeries, 1);
+        this.barSeries = barSeries;
+    }
+
+    @Override
+    protected double calculateDouble(long index) {
+        final double high = barSeries.getHighDouble(index);
+        final double low = barSeries.getLowDouble(index);
+        final double hl = abs(high - low);
+        if (index == 0) {
+            return hl;
+        }
+        final double previousClose = barSeries.getCloseDouble(index - 1);
+        return max(hl, max(abs(high - previousClose), abs(low - previousClose)));
+    }
+}
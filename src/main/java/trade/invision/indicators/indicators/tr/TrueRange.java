@@ -48,14 +48,15 @@ public class TrueRange extends Indicator<Num> {
 
     @Override
     protected Num calculate(long index) {
-        final Bar currentBar = barSeries.get(index);
-        final Num hl = currentBar.getHigh().subtract(currentBar.getLow()).absoluteValue();
+        final Num high = barSeries.getHigh(index);
+        final Num low = barSeries.getLow(index);
+        final Num hl = high.subtract(low).absoluteValue();
         if (index == 0) {
             return hl;
         }
-        final Bar previousBar = barSeries.get(index - 1);
-        final Num hc = currentBar.getHigh().subtract(previousBar.getClose()).absoluteValue();
-        final Num lc = currentBar.getLow().subtract(previousBar.getClose()).absoluteValue();
+        final Num previousClose = barSeries.getClose(index - 1);
+        final Num hc = high.subtract(previousClose).absoluteValue();
+        final Num lc = low.subtract(previousClose).absoluteValue();
         return hl.maximum(hc.maximum(lc));
     }
 }
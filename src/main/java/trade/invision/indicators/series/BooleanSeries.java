@@ -0,0 +1,180 @@
+package trade.invision.indicators.series;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.num.DecimalNum;
+import trade.invision.num.Num;
+import trade.invision.num.NumFactory;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+
+/**
+ * {@link BooleanSeries} is a {@link Series} of primitive <code>boolean</code>s. Values are stored as bits in a
+ * {@link CircularBitArray}, so {@link #add(boolean, boolean)} and {@link #getBoolean(long)} never box or allocate, and
+ * {@link #countTrue(long, long)} counts 64 values at a time. The {@link Boolean} methods inherited from {@link Series}
+ * are supported for compatibility. This class is not thread-safe.
+ */
+public class BooleanSeries extends Series<Boolean> {
+
+    protected final CircularBitArray booleanValues;
+
+    /**
+     * Calls {@link #BooleanSeries(boolean[], int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code>, <code>numFactory</code> set to <code>null</code>, and <code>epsilon</code> set to
+     * <code>null</code>.
+     */
+    public BooleanSeries(int maximumLength) {
+        this(null, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #BooleanSeries(boolean[], int, NumFactory, Num)} with <code>numFactory</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public BooleanSeries(@Nullable boolean[] initialValues, int maximumLength) {
+        this(initialValues, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #BooleanSeries(boolean[], int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public BooleanSeries(int maximumLength, @Nullable NumFactory numFactory) {
+        this(null, maximumLength, numFactory, null);
+    }
+
+    /**
+     * Instantiates a new {@link BooleanSeries}.
+     *
+     * @param initialValues the initial <code>boolean</code> array of values, or <code>null</code> for no initial values
+     * @param maximumLength the {@link #getMaximumLength()}
+     * @param numFactory    the {@link #getNumFactory()}, or <code>null</code> for
+     *                      {@link DecimalNum#decimalNum64Factory()}
+     * @param epsilon       the {@link #getEpsilon()}, or <code>null</code> for {@link NumFactory#zero()}
+     */
+    public BooleanSeries(@Nullable boolean[] initialValues, int maximumLength,
+            @Nullable NumFactory numFactory, @Nullable Num epsilon) {
+        super(null, maximumLength, numFactory, epsilon);
+        booleanValues = new CircularBitArray(maximumLength);
+        if (initialValues != null) {
+            for (int index = max(0, initialValues.length - maximumLength); index < initialValues.length; index++) {
+                booleanValues.add(initialValues[index]);
+            }
+            if (!booleanValues.isEmpty()) {
+                startIndex = 0;
+                endIndex = booleanValues.size() - 1;
+            }
+        }
+    }
+
+    /**
+     * Calls {@link #add(boolean, boolean)} with <code>replaceLast</code> set to <code>true</code>.
+     */
+    public void replaceLast(boolean value) {
+        add(value, true);
+    }
+
+    /**
+     * Calls {@link #add(boolean, boolean)} with <code>replaceLast</code> set to <code>false</code>.
+     */
+    public void add(boolean value) {
+        add(value, false);
+    }
+
+    /**
+     * Adds the given <code>value</code> to this {@link BooleanSeries}.
+     *
+     * @param value       the value
+     * @param replaceLast <code>true</code> to replace the last value in this {@link BooleanSeries}, <code>false</code>
+     *                    to add the value to the end of this {@link BooleanSeries}
+     */
+    public void add(boolean value, boolean replaceLast) {
+        addCallCount++;
+        if (replaceLast && !booleanValues.isEmpty()) {
+            booleanValues.set(booleanValues.size() - 1, value);
+            notifyListeners(true);
+            return;
+        }
+        if (booleanValues.size() == maximumLength) {
+            booleanValues.removeFirst();
+            startIndex++;
+        }
+        booleanValues.add(value);
+        lastAppendAddCallCount = addCallCount;
+        if (startIndex == -1) {
+            startIndex = 0;
+        }
+        endIndex++;
+        notifyListeners(false);
+    }
+
+    @Override
+    public void add(Boolean value, boolean replaceLast) {
+        add(value.booleanValue(), replaceLast);
+    }
+
+    /**
+     * Gets the value at the given <code>index</code>. If the given <code>index</code> is less than
+     * {@link #getStartIndex()}, then {@link #getStartIndex()} is used.
+     *
+     * @param index the index
+     *
+     * @return the {@link BooleanSeries} value
+     *
+     * @throws IndexOutOfBoundsException thrown if the index is outside the range of this {@link BooleanSeries}
+     */
+    public boolean getBoolean(long index) {
+        try {
+            return booleanValues.get((int) max(index - startIndex, 0));
+        } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
+            throw new IndexOutOfBoundsException(format("length=%d, startIndex=%d, endIndex=%d, index=%d",
+                    getLength(), startIndex, endIndex, index));
+        }
+    }
+
+    @Override
+    public Boolean get(long index) {
+        return getBoolean(index);
+    }
+
+    /**
+     * Counts the <code>true</code> values from <code>fromIndex</code> to <code>toIndex</code> (inclusive) using
+     * {@link CircularBitArray#countTrue(int, int)}.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (inclusive)
+     *
+     * @return the number of <code>true</code> values
+     *
+     * @throws IndexOutOfBoundsException thrown if the range is outside the range of this {@link BooleanSeries}
+     */
+    public long countTrue(long fromIndex, long toIndex) {
+        if (fromIndex > toIndex || fromIndex < startIndex || toIndex > endIndex) {
+            throw new IndexOutOfBoundsException(format("startIndex=%d, endIndex=%d, fromIndex=%d, toIndex=%d",
+                    startIndex, endIndex, fromIndex, toIndex));
+        }
+        return booleanValues.countTrue((int) (fromIndex - startIndex), (int) (toIndex - startIndex) + 1);
+    }
+
+    @Override
+    public List<Boolean> listView() {
+        return new ListView();
+    }
+
+    private final class ListView extends AbstractList<Boolean> implements RandomAccess {
+
+        @Override
+        public Boolean get(int index) {
+            return booleanValues.get(index);
+        }
+
+        @Override
+        public int size() {
+            return booleanValues.size();
+        }
+    }
+}
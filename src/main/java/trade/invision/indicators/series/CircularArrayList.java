@@ -0,0 +1,161 @@
+package trade.invision.indicators.series;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.checkIndex;
+
+/**
+ * {@link CircularArrayList} is a {@link java.util.List} backed by a circular array (ring buffer) that holds at most
+ * {@link #getCapacity()} elements. Appending to the end via {@link #add(Object)}, removing from the beginning via
+ * {@link #removeFirst()}, and random access via {@link #get(int)} and {@link #set(int, Object)} all run in constant
+ * time. The backing array grows geometrically until it reaches {@link #getCapacity()} so that a large capacity does
+ * not allocate memory up front. This class is not thread-safe.
+ *
+ * @param <T> the element type
+ */
+public final class CircularArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int MINIMUM_ARRAY_LENGTH = 16;
+
+    private final int capacity;
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Instantiates a new {@link CircularArrayList}.
+     *
+     * @param capacity      the {@link #getCapacity()}
+     * @param initialValues the initial {@link Collection} of values, or <code>null</code> for no initial values. If
+     *                      the number of initial values exceeds <code>capacity</code>, then only the last
+     *                      <code>capacity</code> values are retained.
+     */
+    public CircularArrayList(int capacity, @Nullable Collection<? extends T> initialValues) {
+        checkArgument(capacity > 0, "'capacity' must be greater than zero!");
+        this.capacity = capacity;
+        if (initialValues == null || initialValues.isEmpty()) {
+            elements = new Object[min(capacity, MINIMUM_ARRAY_LENGTH)];
+        } else {
+            final Object[] initialArray = initialValues.toArray();
+            size = min(initialArray.length, capacity);
+            elements = new Object[min(capacity, max(size, MINIMUM_ARRAY_LENGTH))];
+            System.arraycopy(initialArray, initialArray.length - size, elements, 0, size);
+        }
+    }
+
+    /**
+     * Gets the maximum number of elements this {@link CircularArrayList} can hold.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int arrayIndex(int index) {
+        final int arrayIndex = head + index;
+        return arrayIndex >= elements.length ? arrayIndex - elements.length : arrayIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index, size);
+        return (T) elements[arrayIndex(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index, size);
+        final int arrayIndex = arrayIndex(index);
+        final T previous = (T) elements[arrayIndex];
+        elements[arrayIndex] = element;
+        return previous;
+    }
+
+    /**
+     * Appends the given <code>element</code> to the end of this {@link CircularArrayList}.
+     *
+     * @param element the element
+     *
+     * @return <code>true</code>
+     *
+     * @throws IllegalStateException thrown if {@link #size()} is equal to {@link #getCapacity()}
+     */
+    @Override
+    public boolean add(T element) {
+        if (size == capacity) {
+            throw new IllegalStateException("'capacity' has been reached!");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[arrayIndex(size)] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    private void grow() {
+        final Object[] grown = new Object[(int) min(capacity, elements.length * 2L)];
+        final int headLength = min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, headLength);
+        System.arraycopy(elements, 0, grown, headLength, size - headLength);
+        elements = grown;
+        head = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final T first = (T) elements[head];
+        elements[head] = null;
+        head = arrayIndex(1);
+        size--;
+        modCount++;
+        return first;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndex(index, size);
+        if (index == 0) {
+            return removeFirst();
+        }
+        final T removed = get(index);
+        for (int shiftIndex = index; shiftIndex < size - 1; shiftIndex++) {
+            elements[arrayIndex(shiftIndex)] = elements[arrayIndex(shiftIndex + 1)];
+        }
+        elements[arrayIndex(size - 1)] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int index = 0; index < size; index++) {
+            elements[arrayIndex(index)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
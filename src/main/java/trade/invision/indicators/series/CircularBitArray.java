@@ -0,0 +1,205 @@
+package trade.invision.indicators.series;
+
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Long.bitCount;
+import static java.lang.Math.min;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+
+/**
+ * {@link CircularBitArray} is the primitive <code>boolean</code> equivalent of {@link CircularArrayList}. It is a
+ * circular array (ring buffer) that holds at most {@link #getCapacity()} <code>boolean</code>s packed as bits into
+ * <code>long</code> words, so each element occupies a single bit. Appending to the end via {@link #add(boolean)},
+ * removing from the beginning via {@link #removeFirst()}, and random access via {@link #get(int)} and
+ * {@link #set(int, boolean)} all run in constant time, and {@link #countTrue(int, int)} counts 64 elements at a time
+ * using {@link Long#bitCount(long)}. This class is not thread-safe.
+ */
+public final class CircularBitArray {
+
+    private static final int MINIMUM_WORD_COUNT = 1;
+
+    private final int capacity;
+    private long[] words;
+    /**
+     * The number of bits in {@link #words}, which may exceed {@link Integer#MAX_VALUE}.
+     */
+    private long bitLength;
+    private long head;
+    private int size;
+
+    /**
+     * Instantiates a new {@link CircularBitArray}.
+     *
+     * @param capacity the {@link #getCapacity()}
+     */
+    public CircularBitArray(int capacity) {
+        checkArgument(capacity > 0, "'capacity' must be greater than zero!");
+        this.capacity = capacity;
+        words = new long[min(wordCount(capacity), MINIMUM_WORD_COUNT)];
+        bitLength = (long) words.length * Long.SIZE;
+    }
+
+    private static int wordCount(long bits) {
+        return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Gets the maximum number of elements this {@link CircularBitArray} can hold.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long bitIndex(int index) {
+        final long bitIndex = head + index;
+        return bitIndex >= bitLength ? bitIndex - bitLength : bitIndex;
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (words[(int) (bitIndex >>> 6)] & 1L << bitIndex) != 0;
+    }
+
+    private void setBit(long bitIndex, boolean element) {
+        if (element) {
+            words[(int) (bitIndex >>> 6)] |= 1L << bitIndex;
+        } else {
+            words[(int) (bitIndex >>> 6)] &= ~(1L << bitIndex);
+        }
+    }
+
+    /**
+     * Gets the element at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the element
+     */
+    public boolean get(int index) {
+        checkIndex(index, size);
+        return getBit(bitIndex(index));
+    }
+
+    /**
+     * Sets the element at the given <code>index</code>.
+     *
+     * @param index   the index
+     * @param element the element
+     */
+    public void set(int index, boolean element) {
+        checkIndex(index, size);
+        setBit(bitIndex(index), element);
+    }
+
+    /**
+     * Appends the given <code>element</code> to the end of this {@link CircularBitArray}.
+     *
+     * @param element the element
+     *
+     * @throws IllegalStateException thrown if {@link #size()} is equal to {@link #getCapacity()}
+     */
+    public void add(boolean element) {
+        if (size == capacity) {
+            throw new IllegalStateException("'capacity' has been reached!");
+        }
+        if (size == bitLength) {
+            grow();
+        }
+        setBit(bitIndex(size), element);
+        size++;
+    }
+
+    private void grow() {
+        final long[] grown = new long[(int) min(wordCount(capacity), words.length * 2L)];
+        for (int index = 0; index < size; index++) {
+            if (getBit(bitIndex(index))) {
+                grown[index >>> 6] |= 1L << index;
+            }
+        }
+        words = grown;
+        bitLength = (long) grown.length * Long.SIZE;
+        head = 0;
+    }
+
+    /**
+     * Removes the first element of this {@link CircularBitArray}.
+     *
+     * @return the removed element
+     *
+     * @throws NoSuchElementException thrown if {@link #isEmpty()}
+     */
+    public boolean removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final boolean first = getBit(head);
+        head = bitIndex(1);
+        size--;
+        return first;
+    }
+
+    /**
+     * Removes all elements from this {@link CircularBitArray}.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Counts the <code>true</code> elements from <code>fromIndex</code> (inclusive) to <code>toIndex</code>
+     * (exclusive) using a population count of each word, so this runs in time proportional to the number of words in
+     * the range rather than the number of elements.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     *
+     * @return the number of <code>true</code> elements
+     */
+    public int countTrue(int fromIndex, int toIndex) {
+        checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return 0;
+        }
+        final long fromBitIndex = bitIndex(fromIndex);
+        final long length = toIndex - fromIndex;
+        // The range wraps around the end of 'words' at most once.
+        final long headLength = min(length, bitLength - fromBitIndex);
+        return countTrueBits(fromBitIndex, fromBitIndex + headLength) + countTrueBits(0, length - headLength);
+    }
+
+    private int countTrueBits(long fromBitIndex, long toBitIndex) {
+        if (fromBitIndex >= toBitIndex) {
+            return 0;
+        }
+        final int fromWord = (int) (fromBitIndex >>> 6);
+        final int toWord = (int) ((toBitIndex - 1) >>> 6);
+        final long fromMask = -1L << fromBitIndex;
+        final long toMask = -1L >>> -toBitIndex;
+        if (fromWord == toWord) {
+            return bitCount(words[fromWord] & fromMask & toMask);
+        }
+        int count = bitCount(words[fromWord] & fromMask);
+        for (int word = fromWord + 1; word < toWord; word++) {
+            count += bitCount(words[word]);
+        }
+        return count + bitCount(words[toWord] & toMask);
+    }
+
+    /**
+     * @return the number of elements in this {@link CircularBitArray}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if {@link #size()} is <code>0</code>, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
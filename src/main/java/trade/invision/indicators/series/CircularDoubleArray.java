@@ -0,0 +1,137 @@
+package trade.invision.indicators.series;
+
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.min;
+import static java.util.Objects.checkIndex;
+
+/**
+ * {@link CircularDoubleArray} is the primitive <code>double</code> equivalent of {@link CircularArrayList}. It is a
+ * circular array (ring buffer) that holds at most {@link #getCapacity()} <code>double</code>s without boxing. Appending
+ * to the end via {@link #add(double)}, removing from the beginning via {@link #removeFirst()}, and random access via
+ * {@link #get(int)} and {@link #set(int, double)} all run in constant time. This class is not thread-safe.
+ */
+public final class CircularDoubleArray {
+
+    private static final int MINIMUM_ARRAY_LENGTH = 16;
+
+    private final int capacity;
+    private double[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Instantiates a new {@link CircularDoubleArray}.
+     *
+     * @param capacity the {@link #getCapacity()}
+     */
+    public CircularDoubleArray(int capacity) {
+        checkArgument(capacity > 0, "'capacity' must be greater than zero!");
+        this.capacity = capacity;
+        elements = new double[min(capacity, MINIMUM_ARRAY_LENGTH)];
+    }
+
+    /**
+     * Gets the maximum number of elements this {@link CircularDoubleArray} can hold.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int arrayIndex(int index) {
+        final int arrayIndex = head + index;
+        return arrayIndex >= elements.length ? arrayIndex - elements.length : arrayIndex;
+    }
+
+    /**
+     * Gets the element at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the element
+     */
+    public double get(int index) {
+        checkIndex(index, size);
+        return elements[arrayIndex(index)];
+    }
+
+    /**
+     * Sets the element at the given <code>index</code>.
+     *
+     * @param index   the index
+     * @param element the element
+     */
+    public void set(int index, double element) {
+        checkIndex(index, size);
+        elements[arrayIndex(index)] = element;
+    }
+
+    /**
+     * Appends the given <code>element</code> to the end of this {@link CircularDoubleArray}.
+     *
+     * @param element the element
+     *
+     * @throws IllegalStateException thrown if {@link #size()} is equal to {@link #getCapacity()}
+     */
+    public void add(double element) {
+        if (size == capacity) {
+            throw new IllegalStateException("'capacity' has been reached!");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[arrayIndex(size)] = element;
+        size++;
+    }
+
+    private void grow() {
+        final double[] grown = new double[(int) min(capacity, elements.length * 2L)];
+        final int headLength = min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, headLength);
+        System.arraycopy(elements, 0, grown, headLength, size - headLength);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * Removes the first element of this {@link CircularDoubleArray}.
+     *
+     * @return the removed element
+     *
+     * @throws NoSuchElementException thrown if {@link #isEmpty()}
+     */
+    public double removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final double first = elements[head];
+        head = arrayIndex(1);
+        size--;
+        return first;
+    }
+
+    /**
+     * Removes all elements from this {@link CircularDoubleArray}.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * @return the number of elements in this {@link CircularDoubleArray}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if {@link #size()} is <code>0</code>, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,137 @@
+package trade.invision.indicators.series;
+
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.min;
+import static java.util.Objects.checkIndex;
+
+/**
+ * {@link CircularLongArray} is the primitive <code>long</code> equivalent of {@link CircularArrayList}. It is a
+ * circular array (ring buffer) that holds at most {@link #getCapacity()} <code>long</code>s without boxing. Appending
+ * to the end via {@link #add(long)}, removing from the beginning via {@link #removeFirst()}, and random access via
+ * {@link #get(int)} and {@link #set(int, long)} all run in constant time. This class is not thread-safe.
+ */
+public final class CircularLongArray {
+
+    private static final int MINIMUM_ARRAY_LENGTH = 16;
+
+    private final int capacity;
+    private long[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Instantiates a new {@link CircularLongArray}.
+     *
+     * @param capacity the {@link #getCapacity()}
+     */
+    public CircularLongArray(int capacity) {
+        checkArgument(capacity > 0, "'capacity' must be greater than zero!");
+        this.capacity = capacity;
+        elements = new long[min(capacity, MINIMUM_ARRAY_LENGTH)];
+    }
+
+    /**
+     * Gets the maximum number of elements this {@link CircularLongArray} can hold.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int arrayIndex(int index) {
+        final int arrayIndex = head + index;
+        return arrayIndex >= elements.length ? arrayIndex - elements.length : arrayIndex;
+    }
+
+    /**
+     * Gets the element at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the element
+     */
+    public long get(int index) {
+        checkIndex(index, size);
+        return elements[arrayIndex(index)];
+    }
+
+    /**
+     * Sets the element at the given <code>index</code>.
+     *
+     * @param index   the index
+     * @param element the element
+     */
+    public void set(int index, long element) {
+        checkIndex(index, size);
+        elements[arrayIndex(index)] = element;
+    }
+
+    /**
+     * Appends the given <code>element</code> to the end of this {@link CircularLongArray}.
+     *
+     * @param element the element
+     *
+     * @throws IllegalStateException thrown if {@link #size()} is equal to {@link #getCapacity()}
+     */
+    public void add(long element) {
+        if (size == capacity) {
+            throw new IllegalStateException("'capacity' has been reached!");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[arrayIndex(size)] = element;
+        size++;
+    }
+
+    private void grow() {
+        final long[] grown = new long[(int) min(capacity, elements.length * 2L)];
+        final int headLength = min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, headLength);
+        System.arraycopy(elements, 0, grown, headLength, size - headLength);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * Removes the first element of this {@link CircularLongArray}.
+     *
+     * @return the removed element
+     *
+     * @throws NoSuchElementException thrown if {@link #isEmpty()}
+     */
+    public long removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final long first = elements[head];
+        head = arrayIndex(1);
+        size--;
+        return first;
+    }
+
+    /**
+     * Removes all elements from this {@link CircularLongArray}.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * @return the number of elements in this {@link CircularLongArray}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if {@link #size()} is <code>0</code>, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
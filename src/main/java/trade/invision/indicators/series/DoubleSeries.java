@@ -0,0 +1,161 @@
+package trade.invision.indicators.series;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.num.DecimalNum;
+import trade.invision.num.Num;
+import trade.invision.num.NumFactory;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+
+/**
+ * {@link DoubleSeries} is a {@link Series} of primitive <code>double</code>s. Values are stored in a
+ * {@link CircularDoubleArray}, so {@link #add(double, boolean)} and {@link #getDouble(long)} never box or allocate.
+ * The {@link Double} methods inherited from {@link Series} are supported for compatibility, but box on every call. This
+ * class is not thread-safe.
+ */
+public class DoubleSeries extends Series<Double> {
+
+    protected final CircularDoubleArray doubleValues;
+
+    /**
+     * Calls {@link #DoubleSeries(double[], int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code>, <code>numFactory</code> set to <code>null</code>, and <code>epsilon</code> set to
+     * <code>null</code>.
+     */
+    public DoubleSeries(int maximumLength) {
+        this(null, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #DoubleSeries(double[], int, NumFactory, Num)} with <code>numFactory</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public DoubleSeries(@Nullable double[] initialValues, int maximumLength) {
+        this(initialValues, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #DoubleSeries(double[], int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public DoubleSeries(int maximumLength, @Nullable NumFactory numFactory) {
+        this(null, maximumLength, numFactory, null);
+    }
+
+    /**
+     * Instantiates a new {@link DoubleSeries}.
+     *
+     * @param initialValues the initial <code>double</code> array of values, or <code>null</code> for no initial values
+     * @param maximumLength the {@link #getMaximumLength()}
+     * @param numFactory    the {@link #getNumFactory()}, or <code>null</code> for
+     *                      {@link DecimalNum#decimalNum64Factory()}
+     * @param epsilon       the {@link #getEpsilon()}, or <code>null</code> for {@link NumFactory#zero()}
+     */
+    public DoubleSeries(@Nullable double[] initialValues, int maximumLength,
+            @Nullable NumFactory numFactory, @Nullable Num epsilon) {
+        super(null, maximumLength, numFactory, epsilon);
+        doubleValues = new CircularDoubleArray(maximumLength);
+        if (initialValues != null) {
+            for (int index = max(0, initialValues.length - maximumLength); index < initialValues.length; index++) {
+                doubleValues.add(initialValues[index]);
+            }
+            if (!doubleValues.isEmpty()) {
+                startIndex = 0;
+                endIndex = doubleValues.size() - 1;
+            }
+        }
+    }
+
+    /**
+     * Calls {@link #add(double, boolean)} with <code>replaceLast</code> set to <code>true</code>.
+     */
+    public void replaceLast(double value) {
+        add(value, true);
+    }
+
+    /**
+     * Calls {@link #add(double, boolean)} with <code>replaceLast</code> set to <code>false</code>.
+     */
+    public void add(double value) {
+        add(value, false);
+    }
+
+    /**
+     * Adds the given <code>value</code> to this {@link DoubleSeries}.
+     *
+     * @param value       the value
+     * @param replaceLast <code>true</code> to replace the last value in this {@link DoubleSeries}, <code>false</code>
+     *                    to add the value to the end of this {@link DoubleSeries}
+     */
+    public void add(double value, boolean replaceLast) {
+        addCallCount++;
+        if (replaceLast && !doubleValues.isEmpty()) {
+            doubleValues.set(doubleValues.size() - 1, value);
+            notifyListeners(true);
+            return;
+        }
+        if (doubleValues.size() == maximumLength) {
+            doubleValues.removeFirst();
+            startIndex++;
+        }
+        doubleValues.add(value);
+        lastAppendAddCallCount = addCallCount;
+        if (startIndex == -1) {
+            startIndex = 0;
+        }
+        endIndex++;
+        notifyListeners(false);
+    }
+
+    @Override
+    public void add(Double value, boolean replaceLast) {
+        add(value.doubleValue(), replaceLast);
+    }
+
+    /**
+     * Gets the value at the given <code>index</code>. If the given <code>index</code> is less than
+     * {@link #getStartIndex()}, then {@link #getStartIndex()} is used.
+     *
+     * @param index the index
+     *
+     * @return the {@link DoubleSeries} value
+     *
+     * @throws IndexOutOfBoundsException thrown if the index is outside the range of this {@link DoubleSeries}
+     */
+    public double getDouble(long index) {
+        try {
+            return doubleValues.get((int) max(index - startIndex, 0));
+        } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
+            throw new IndexOutOfBoundsException(format("length=%d, startIndex=%d, endIndex=%d, index=%d",
+                    getLength(), startIndex, endIndex, index));
+        }
+    }
+
+    @Override
+    public Double get(long index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public List<Double> listView() {
+        return new ListView();
+    }
+
+    private final class ListView extends AbstractList<Double> implements RandomAccess {
+
+        @Override
+        public Double get(int index) {
+            return doubleValues.get(index);
+        }
+
+        @Override
+        public int size() {
+            return doubleValues.size();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package trade.invision.indicators.series;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.addExact;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.multiplyExact;
+import static java.time.temporal.ChronoUnit.WEEKS;
+
+/**
+ * {@link EpochNanos} provides static methods for the primitive <code>long</code> representation of an {@link Instant}
+ * as the number of nanoseconds since the Unix epoch (1970-01-01T00:00:00Z). This representation covers the
+ * {@link Instant}s from 1677-09-21T00:12:43.145224192Z to 2262-04-11T23:47:16.854775807Z.
+ */
+public final class EpochNanos {
+
+    /**
+     * The number of nanoseconds in a second.
+     */
+    public static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Converts the given {@link Instant} to nanoseconds since the epoch.
+     *
+     * @param instant the {@link Instant}
+     *
+     * @return the nanoseconds since the epoch
+     *
+     * @throws ArithmeticException thrown if the {@link Instant} is outside the range of a <code>long</code>
+     */
+    public static long toEpochNanos(Instant instant) {
+        return addExact(multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * Converts the given nanoseconds since the epoch to an {@link Instant}.
+     *
+     * @param epochNanos the nanoseconds since the epoch
+     *
+     * @return the {@link Instant}
+     */
+    public static Instant ofEpochNanos(long epochNanos) {
+        return Instant.ofEpochSecond(floorDiv(epochNanos, NANOS_PER_SECOND), floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Gets the number of nanoseconds in the given fixed-length {@link ChronoUnit}, which is {@link ChronoUnit#WEEKS}
+     * or smaller. Days and weeks are treated as exactly 24 and 168 hours, as they are in {@link java.time.ZoneOffset}
+     * time zones.
+     *
+     * @param unit the {@link ChronoUnit}
+     *
+     * @return the nanoseconds
+     *
+     * @throws IllegalArgumentException thrown if <code>unit</code> is larger than {@link ChronoUnit#WEEKS}
+     */
+    public static long unitNanos(ChronoUnit unit) {
+        checkArgument(unit.compareTo(WEEKS) <= 0, "'unit' must be weeks or smaller!");
+        return unit.getDuration().toNanos();
+    }
+}
@@ -59,6 +59,13 @@ public class Series<T> {
      * have changed in any way. Number may overflow.
      */
     protected @Getter long addCallCount;
+    /**
+     * Gets the {@link #getAddCallCount()} of the most recent {@link #add(Object, boolean)} call that appended a value
+     * instead of replacing the last value. Use with {@link #getAddCallCount()} to track if values have been replaced
+     * since a given {@link #getAddCallCount()}.
+     */
+    protected @Getter long lastAppendAddCallCount;
+    protected final List<SeriesListener> listeners;
 
     /**
      * Calls {@link #Series(Collection, int, NumFactory, Num)} with <code>initialValues</code> set to
@@ -100,15 +107,13 @@ public class Series<T> {
         this.maximumLength = maximumLength;
         this.numFactory = numFactory != null ? numFactory : decimalNum64Factory();
         this.epsilon = epsilon != null ? epsilon : this.numFactory.zero();
-        // 'ArrayList' has the fastest sequential access time.
-        values = initialValues != null ? new ArrayList<>(initialValues) : new ArrayList<>(0);
+        // 'CircularArrayList' provides constant time appending, removal of the first value, and random access.
+        values = new CircularArrayList<>(maximumLength, initialValues);
+        listeners = new ArrayList<>(0);
         if (values.isEmpty()) {
             startIndex = -1;
             endIndex = -1;
         } else {
-            if (values.size() > maximumLength) {
-                values.subList(0, values.size() - maximumLength).clear();
-            }
             startIndex = 0;
             endIndex = values.size() - 1;
         }
@@ -139,19 +144,53 @@ public class Series<T> {
         addCallCount++;
         if (replaceLast && !values.isEmpty()) {
             values.set(values.size() - 1, value);
+            notifyListeners(true);
             return;
         }
+        if (values.size() == maximumLength) {
+            values.removeFirst();
+            startIndex++;
+        }
         values.add(value);
+        lastAppendAddCallCount = addCallCount;
         if (startIndex == -1) {
             startIndex = 0;
         }
         endIndex++;
-        if (values.size() > maximumLength) {
-            values.removeFirst();
-            startIndex++;
+        notifyListeners(false);
+    }
+
+    /**
+     * Calls {@link SeriesListener#onAdd(Series, boolean)} on each of the registered {@link SeriesListener}s in
+     * registration order. Subclasses that override {@link #add(Object, boolean)} must call this method after
+     * modifying this {@link Series}.
+     *
+     * @param replaceLast <code>true</code> if the last value was replaced, <code>false</code> if a value was added
+     */
+    protected void notifyListeners(boolean replaceLast) {
+        for (int index = 0; index < listeners.size(); index++) {
+            listeners.get(index).onAdd(this, replaceLast);
         }
     }
 
+    /**
+     * Registers the given {@link SeriesListener} to be notified after every {@link #add(Object, boolean)}.
+     *
+     * @param listener the {@link SeriesListener}
+     */
+    public void addListener(SeriesListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters the given {@link SeriesListener}.
+     *
+     * @param listener the {@link SeriesListener}
+     */
+    public void removeListener(SeriesListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Gets the value at the given <code>index</code>. If the given <code>index</code> is less than
      * {@link #getStartIndex()}, then {@link #getStartIndex()} is used.
@@ -0,0 +1,19 @@
+package trade.invision.indicators.series;
+
+/**
+ * {@link SeriesListener} is a functional interface for receiving a callback after a value is added to a
+ * {@link Series} or the last value of a {@link Series} is replaced.
+ *
+ * @see Series#addListener(SeriesListener)
+ */
+@FunctionalInterface
+public interface SeriesListener {
+
+    /**
+     * Called after the given <code>series</code> has been modified by {@link Series#add(Object, boolean)}.
+     *
+     * @param series      the {@link Series}
+     * @param replaceLast <code>true</code> if the last value was replaced, <code>false</code> if a value was added
+     */
+    void onAdd(Series<?> series, boolean replaceLast);
+}
@@ -2,16 +2,23 @@ package trade.invision.indicators.series.bar;
 
 import org.jetbrains.annotations.Nullable;
 import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.EpochNanos;
 import trade.invision.indicators.series.Series;
 import trade.invision.num.Num;
 import trade.invision.num.NumFactory;
 
+import java.time.Instant;
 import java.util.Collection;
 
+import static trade.invision.indicators.series.EpochNanos.toEpochNanos;
+
 /**
  * {@link BarSeries} is a {@link Series} of {@link Bar}s. {@link Bar}s that are added to this {@link BarSeries} that do
  * not have identical {@link Bar#getDuration()}s or are not added chronologically may cause {@link Indicator}s to behave
- * unexpectedly.
+ * unexpectedly. The per-field getters, such as {@link #getClose(long)}, are equivalent to calling the {@link Bar}
+ * getter on {@link #get(long)}, and {@link ColumnarBarSeries} overrides them to read its columns directly. The
+ * primitive <code>double</code> getters, such as {@link #getCloseDouble(long)}, avoid creating a {@link Num} on a
+ * {@link ColumnarBarSeries}.
  */
 public class BarSeries extends Series<Bar> {
 
@@ -43,4 +50,216 @@ public class BarSeries extends Series<Bar> {
             @Nullable NumFactory numFactory, @Nullable Num epsilon) {
         super(initialValues, maximumLength, numFactory, epsilon);
     }
+
+    /**
+     * Gets {@link Bar#getStart()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Instant}
+     *
+     * @see #get(long)
+     */
+    public Instant getStart(long index) {
+        return get(index).getStart();
+    }
+
+    /**
+     * Gets {@link Bar#getEnd()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Instant}
+     *
+     * @see #get(long)
+     */
+    public Instant getEnd(long index) {
+        return get(index).getEnd();
+    }
+
+    /**
+     * Gets {@link Bar#getStart()} of the {@link Bar} at the given <code>index</code> in nanoseconds since the epoch.
+     *
+     * @param index the index
+     *
+     * @return the nanoseconds since the epoch
+     *
+     * @throws ArithmeticException thrown if the {@link Instant} is outside the range of {@link EpochNanos}
+     *
+     * @see #getStart(long)
+     */
+    public long getStartEpochNanos(long index) {
+        return toEpochNanos(getStart(index));
+    }
+
+    /**
+     * Gets {@link Bar#getEnd()} of the {@link Bar} at the given <code>index</code> in nanoseconds since the epoch.
+     *
+     * @param index the index
+     *
+     * @return the nanoseconds since the epoch
+     *
+     * @throws ArithmeticException thrown if the {@link Instant} is outside the range of {@link EpochNanos}
+     *
+     * @see #getEnd(long)
+     */
+    public long getEndEpochNanos(long index) {
+        return toEpochNanos(getEnd(index));
+    }
+
+    /**
+     * Gets {@link Bar#getOpen()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getOpen(long index) {
+        return get(index).getOpen();
+    }
+
+    /**
+     * Gets {@link Bar#getHigh()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getHigh(long index) {
+        return get(index).getHigh();
+    }
+
+    /**
+     * Gets {@link Bar#getLow()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getLow(long index) {
+        return get(index).getLow();
+    }
+
+    /**
+     * Gets {@link Bar#getClose()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getClose(long index) {
+        return get(index).getClose();
+    }
+
+    /**
+     * Gets {@link Bar#getVolume()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getVolume(long index) {
+        return get(index).getVolume();
+    }
+
+    /**
+     * Gets {@link Bar#getTradeCount()} of the {@link Bar} at the given <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return the {@link Num}
+     *
+     * @see #get(long)
+     */
+    public Num getTradeCount(long index) {
+        return get(index).getTradeCount();
+    }
+
+    /**
+     * Gets {@link Bar#getOpen()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getOpen(long)
+     */
+    public double getOpenDouble(long index) {
+        return getOpen(index).toDouble();
+    }
+
+    /**
+     * Gets {@link Bar#getHigh()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getHigh(long)
+     */
+    public double getHighDouble(long index) {
+        return getHigh(index).toDouble();
+    }
+
+    /**
+     * Gets {@link Bar#getLow()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getLow(long)
+     */
+    public double getLowDouble(long index) {
+        return getLow(index).toDouble();
+    }
+
+    /**
+     * Gets {@link Bar#getClose()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getClose(long)
+     */
+    public double getCloseDouble(long index) {
+        return getClose(index).toDouble();
+    }
+
+    /**
+     * Gets {@link Bar#getVolume()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getVolume(long)
+     */
+    public double getVolumeDouble(long index) {
+        return getVolume(index).toDouble();
+    }
+
+    /**
+     * Gets {@link Bar#getTradeCount()} of the {@link Bar} at the given <code>index</code> as a primitive <code>double</code>.
+     *
+     * @param index the index
+     *
+     * @return the <code>double</code>
+     *
+     * @see #getTradeCount(long)
+     */
+    public double getTradeCountDouble(long index) {
+        return getTradeCount(index).toDouble();
+    }
 }
@@ -0,0 +1,311 @@
+package trade.invision.indicators.series.bar;
+
+import org.jetbrains.annotations.Nullable;
+import trade.invision.indicators.series.CircularDoubleArray;
+import trade.invision.indicators.series.CircularLongArray;
+import trade.invision.num.DoubleNum;
+import trade.invision.num.Num;
+import trade.invision.num.NumFactory;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.Math.subtractExact;
+import static java.lang.String.format;
+import static trade.invision.indicators.series.EpochNanos.ofEpochNanos;
+import static trade.invision.indicators.series.EpochNanos.toEpochNanos;
+import static trade.invision.num.DoubleNum.doubleNumFactory;
+
+/**
+ * {@link ColumnarBarSeries} is a {@link BarSeries} that stores its {@link Bar}s in packed primitive columns instead of
+ * as {@link Bar} objects: the start and the duration as <code>long</code> nanoseconds since the epoch and
+ * <code>long</code> nanoseconds, and the open, high, low, close, volume, and trade count as <code>double</code>s. This
+ * avoids the {@link Bar}, its two {@link Instant}s, and its six {@link Num}s per index, which greatly reduces the heap
+ * size of large histories, and the per-field getters, such as {@link #getClose(long)}, read a single column. The
+ * primitive getters, such as {@link #getCloseDouble(long)}, additionally avoid creating a {@link Num}. Since the
+ * {@link Num}s are stored as <code>double</code>s, this is intended for a double-precision {@link NumFactory}, which is
+ * the default, and {@link Num}s from a higher-precision {@link NumFactory} are rounded. The {@link Bar} methods
+ * inherited from {@link BarSeries} are supported for compatibility, but allocate a {@link Bar} on every call. This
+ * class is not thread-safe.
+ */
+public class ColumnarBarSeries extends BarSeries {
+
+    protected final CircularLongArray startColumn;
+    protected final CircularLongArray durationColumn;
+    protected final CircularDoubleArray openColumn;
+    protected final CircularDoubleArray highColumn;
+    protected final CircularDoubleArray lowColumn;
+    protected final CircularDoubleArray closeColumn;
+    protected final CircularDoubleArray volumeColumn;
+    protected final CircularDoubleArray tradeCountColumn;
+
+    /**
+     * Calls {@link #ColumnarBarSeries(Collection, int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code>, <code>numFactory</code> set to <code>null</code>, and <code>epsilon</code> set to
+     * <code>null</code>.
+     */
+    public ColumnarBarSeries(int maximumLength) {
+        this(null, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #ColumnarBarSeries(Collection, int, NumFactory, Num)} with <code>numFactory</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public ColumnarBarSeries(@Nullable Collection<Bar> initialValues, int maximumLength) {
+        this(initialValues, maximumLength, null, null);
+    }
+
+    /**
+     * Calls {@link #ColumnarBarSeries(Collection, int, NumFactory, Num)} with <code>initialValues</code> set to
+     * <code>null</code> and <code>epsilon</code> set to <code>null</code>.
+     */
+    public ColumnarBarSeries(int maximumLength, @Nullable NumFactory numFactory) {
+        this(null, maximumLength, numFactory, null);
+    }
+
+    /**
+     * Instantiates a new {@link ColumnarBarSeries}.
+     *
+     * @param initialValues the initial {@link Collection} of {@link Bar}s, or <code>null</code> for no initial values
+     * @param maximumLength the {@link #getMaximumLength()}
+     * @param numFactory    the {@link #getNumFactory()}, or <code>null</code> for {@link DoubleNum#doubleNumFactory()}
+     * @param epsilon       the {@link #getEpsilon()}, or <code>null</code> for {@link NumFactory#zero()}
+     */
+    public ColumnarBarSeries(@Nullable Collection<Bar> initialValues, int maximumLength,
+            @Nullable NumFactory numFactory, @Nullable Num epsilon) {
+        super(null, maximumLength, numFactory != null ? numFactory : doubleNumFactory(), epsilon);
+        startColumn = new CircularLongArray(maximumLength);
+        durationColumn = new CircularLongArray(maximumLength);
+        openColumn = new CircularDoubleArray(maximumLength);
+        highColumn = new CircularDoubleArray(maximumLength);
+        lowColumn = new CircularDoubleArray(maximumLength);
+        closeColumn = new CircularDoubleArray(maximumLength);
+        volumeColumn = new CircularDoubleArray(maximumLength);
+        tradeCountColumn = new CircularDoubleArray(maximumLength);
+        if (initialValues != null) {
+            final int skip = max(0, initialValues.size() - maximumLength);
+            int count = 0;
+            for (Bar bar : initialValues) {
+                if (count++ >= skip) {
+                    final long start = toEpochNanos(bar.getStart());
+                    addColumns(start, subtractExact(toEpochNanos(bar.getEnd()), start),
+                            bar.getOpen().toDouble(), bar.getHigh().toDouble(), bar.getLow().toDouble(),
+                            bar.getClose().toDouble(), bar.getVolume().toDouble(), bar.getTradeCount().toDouble());
+                }
+            }
+            if (!closeColumn.isEmpty()) {
+                startIndex = 0;
+                endIndex = closeColumn.size() - 1;
+            }
+        }
+    }
+
+    /**
+     * Adds the given {@link Bar} fields to this {@link ColumnarBarSeries} without allocating.
+     *
+     * @param startEpochNanos the start in nanoseconds since the epoch
+     * @param durationNanos   the duration in nanoseconds
+     * @param open            the open
+     * @param high            the high
+     * @param low             the low
+     * @param close           the close
+     * @param volume          the volume
+     * @param tradeCount      the trade count
+     * @param replaceLast     <code>true</code> to replace the last value in this {@link ColumnarBarSeries},
+     *                        <code>false</code> to add the value to the end of this {@link ColumnarBarSeries}
+     */
+    public void add(long startEpochNanos, long durationNanos, double open, double high, double low, double close,
+            double volume, double tradeCount, boolean replaceLast) {
+        addCallCount++;
+        if (replaceLast && !closeColumn.isEmpty()) {
+            final int last = closeColumn.size() - 1;
+            startColumn.set(last, startEpochNanos);
+            durationColumn.set(last, durationNanos);
+            openColumn.set(last, open);
+            highColumn.set(last, high);
+            lowColumn.set(last, low);
+            closeColumn.set(last, close);
+            volumeColumn.set(last, volume);
+            tradeCountColumn.set(last, tradeCount);
+            notifyListeners(true);
+            return;
+        }
+        if (closeColumn.size() == maximumLength) {
+            startColumn.removeFirst();
+            durationColumn.removeFirst();
+            openColumn.removeFirst();
+            highColumn.removeFirst();
+            lowColumn.removeFirst();
+            closeColumn.removeFirst();
+            volumeColumn.removeFirst();
+            tradeCountColumn.removeFirst();
+            startIndex++;
+        }
+        addColumns(startEpochNanos, durationNanos, open, high, low, close, volume, tradeCount);
+        lastAppendAddCallCount = addCallCount;
+        if (startIndex == -1) {
+            startIndex = 0;
+        }
+        endIndex++;
+        notifyListeners(false);
+    }
+
+    private void addColumns(long startEpochNanos, long durationNanos, double open, double high, double low,
+            double close, double volume, double tradeCount) {
+        startColumn.add(startEpochNanos);
+        durationColumn.add(durationNanos);
+        openColumn.add(open);
+        highColumn.add(high);
+        lowColumn.add(low);
+        closeColumn.add(close);
+        volumeColumn.add(volume);
+        tradeCountColumn.add(tradeCount);
+    }
+
+    @Override
+    public void add(Bar value, boolean replaceLast) {
+        final long start = toEpochNanos(value.getStart());
+        add(start, subtractExact(toEpochNanos(value.getEnd()), start),
+                value.getOpen().toDouble(), value.getHigh().toDouble(), value.getLow().toDouble(),
+                value.getClose().toDouble(), value.getVolume().toDouble(), value.getTradeCount().toDouble(),
+                replaceLast);
+    }
+
+    /**
+     * Gets the column index of the given <code>index</code>. If the given <code>index</code> is less than
+     * {@link #getStartIndex()}, then {@link #getStartIndex()} is used.
+     *
+     * @throws IndexOutOfBoundsException thrown if the index is outside the range of this {@link ColumnarBarSeries}
+     */
+    private int columnIndex(long index) {
+        if (index > endIndex || endIndex < 0) {
+            throw new IndexOutOfBoundsException(format("length=%d, startIndex=%d, endIndex=%d, index=%d",
+                    getLength(), startIndex, endIndex, index));
+        }
+        return (int) max(index - startIndex, 0);
+    }
+
+    @Override
+    public long getStartEpochNanos(long index) {
+        return startColumn.get(columnIndex(index));
+    }
+
+    /**
+     * @return the duration of the {@link Bar} at the given <code>index</code> in nanoseconds
+     */
+    public long getDurationNanos(long index) {
+        return durationColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public long getEndEpochNanos(long index) {
+        final int columnIndex = columnIndex(index);
+        return startColumn.get(columnIndex) + durationColumn.get(columnIndex);
+    }
+
+    @Override
+    public double getOpenDouble(long index) {
+        return openColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public double getHighDouble(long index) {
+        return highColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public double getLowDouble(long index) {
+        return lowColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public double getCloseDouble(long index) {
+        return closeColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public double getVolumeDouble(long index) {
+        return volumeColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public double getTradeCountDouble(long index) {
+        return tradeCountColumn.get(columnIndex(index));
+    }
+
+    @Override
+    public Instant getStart(long index) {
+        return ofEpochNanos(getStartEpochNanos(index));
+    }
+
+    @Override
+    public Instant getEnd(long index) {
+        return ofEpochNanos(getEndEpochNanos(index));
+    }
+
+    @Override
+    public Num getOpen(long index) {
+        return numOf(getOpenDouble(index));
+    }
+
+    @Override
+    public Num getHigh(long index) {
+        return numOf(getHighDouble(index));
+    }
+
+    @Override
+    public Num getLow(long index) {
+        return numOf(getLowDouble(index));
+    }
+
+    @Override
+    public Num getClose(long index) {
+        return numOf(getCloseDouble(index));
+    }
+
+    @Override
+    public Num getVolume(long index) {
+        return numOf(getVolumeDouble(index));
+    }
+
+    @Override
+    public Num getTradeCount(long index) {
+        return numOf(getTradeCountDouble(index));
+    }
+
+    @Override
+    public Bar get(long index) {
+        return getBar(columnIndex(index));
+    }
+
+    private Bar getBar(int columnIndex) {
+        final long start = startColumn.get(columnIndex);
+        return new Bar(ofEpochNanos(start), ofEpochNanos(start + durationColumn.get(columnIndex)),
+                numOf(openColumn.get(columnIndex)), numOf(highColumn.get(columnIndex)),
+                numOf(lowColumn.get(columnIndex)), numOf(closeColumn.get(columnIndex)),
+                numOf(volumeColumn.get(columnIndex)), numOf(tradeCountColumn.get(columnIndex)));
+    }
+
+    @Override
+    public List<Bar> listView() {
+        return new ListView();
+    }
+
+    private final class ListView extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return closeColumn.size();
+        }
+    }
+}
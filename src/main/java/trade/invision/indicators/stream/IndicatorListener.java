@@ -0,0 +1,24 @@
+package trade.invision.indicators.stream;
+
+import trade.invision.indicators.indicators.Indicator;
+
+/**
+ * {@link IndicatorListener} is a functional interface for receiving the value of an {@link Indicator} at
+ * {@link trade.invision.indicators.series.Series#getEndIndex()} each time a {@link StreamingEngine} is updated.
+ *
+ * @param <T> the {@link Indicator} type
+ *
+ * @see StreamingEngine#register(Indicator, IndicatorListener)
+ */
+@FunctionalInterface
+public interface IndicatorListener<T> {
+
+    /**
+     * Called with the new end value of the given <code>indicator</code>.
+     *
+     * @param indicator the {@link Indicator}
+     * @param index     the end index
+     * @param value     the value of <code>indicator</code> at <code>index</code>
+     */
+    void onValue(Indicator<T> indicator, long index, T value);
+}
@@ -0,0 +1,170 @@
+package trade.invision.indicators.stream;
+
+import lombok.Getter;
+import trade.invision.indicators.indicators.Indicator;
+import trade.invision.indicators.series.Series;
+import trade.invision.indicators.series.SeriesListener;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableList;
+import static trade.invision.indicators.indicators.Indicator.topologicalOrder;
+
+/**
+ * {@link StreamingEngine} is a push-based evaluator of {@link Indicator}s. Instead of consumers pulling each
+ * {@link Indicator} at {@link Series#getEndIndex()} after every {@link Series#add(Object, boolean)}, {@link Indicator}s
+ * are registered with this {@link StreamingEngine} along with an {@link IndicatorListener}, and this
+ * {@link StreamingEngine} listens to {@link #getSeries()} so that every {@link Series#add(Object, boolean)} evaluates
+ * the registered {@link Indicator}s once, in topological order of their combined dependency graph (see
+ * {@link Indicator#getDependencies()}), and then notifies the {@link IndicatorListener}s. Since every registered
+ * {@link Indicator} has been evaluated before any {@link IndicatorListener} is notified, {@link IndicatorListener}s
+ * observe a consistent update and may call {@link Indicator#getValue(long)} on any registered {@link Indicator} at the
+ * end index without causing a recalculation. Dependencies shared by more than one {@link Indicator} of the graph (e.g.
+ * the {@link trade.invision.indicators.indicators.statistical.moments.RunningMoments} used by both
+ * {@link trade.invision.indicators.indicators.statistical.Variance} and
+ * {@link trade.invision.indicators.indicators.statistical.StandardScore}) are also evaluated by this
+ * {@link StreamingEngine} at the end index, in topological order before any of their consumers, so their consumers
+ * are served from the dependency's single-value cache for the end index. Other unregistered dependencies are only
+ * evaluated by their consumers, so that a dependency is never evaluated at an index that its only consumer doesn't
+ * use.
+ * <p>
+ * The end value of a shared dependency is calculated once per update only while its single-value cache holds the end
+ * index. If a consumer also reads a shared dependency that is not {@link Indicator#isCaching()} at another index, such
+ * as the previous index, then that read replaces the single-value cache and the next read at the end index
+ * recalculates it. Enable {@link Indicator#caching(int)} on such dependencies with the lookback reported by
+ * {@link trade.invision.indicators.indicators.LookbackAnalysis} to calculate each of their values once. This class is
+ * not thread-safe.
+ */
+public class StreamingEngine {
+
+    /**
+     * Gets a {@link StreamingEngine}.
+     *
+     * @param series the {@link Series} to listen to
+     */
+    public static StreamingEngine streamingEngine(Series<?> series) {
+        return new StreamingEngine(series);
+    }
+
+    /**
+     * The {@link Series} that this {@link StreamingEngine} listens to.
+     */
+    private final @Getter Series<?> series;
+    private final SeriesListener seriesListener;
+    private final Map<Indicator<?>, List<IndicatorListener<?>>> listenersOfIndicators;
+    /**
+     * All {@link Indicator}s of the combined dependency graph of the registered {@link Indicator}s, where every
+     * {@link Indicator} comes after all of its dependencies.
+     */
+    private @Getter List<Indicator<?>> topologicalOrder;
+    /**
+     * The registered and shared {@link Indicator}s of {@link #topologicalOrder}, in the same order.
+     */
+    private Indicator<?>[] evaluationOrder;
+    private Object[] evaluatedValues;
+
+    protected StreamingEngine(Series<?> series) {
+        this.series = series;
+        listenersOfIndicators = new IdentityHashMap<>();
+        topologicalOrder = List.of();
+        evaluationOrder = new Indicator<?>[0];
+        evaluatedValues = new Object[0];
+        seriesListener = (modifiedSeries, replaceLast) -> update();
+        series.addListener(seriesListener);
+    }
+
+    /**
+     * Registers the given {@link Indicator} so that the given {@link IndicatorListener} is notified with the end value
+     * of the given {@link Indicator} after every {@link Series#add(Object, boolean)} of {@link #getSeries()}.
+     *
+     * @param indicator the {@link Indicator}, which must use {@link #getSeries()}
+     * @param listener  the {@link IndicatorListener}
+     *
+     * @return this {@link StreamingEngine}, for method chaining
+     */
+    public <T> StreamingEngine register(Indicator<T> indicator, IndicatorListener<T> listener) {
+        checkArgument(indicator.getSeries() == series, "'indicator' must use the 'series' of this engine!");
+        listenersOfIndicators.computeIfAbsent(indicator, key -> new ArrayList<>()).add(listener);
+        updateOrder();
+        return this;
+    }
+
+    /**
+     * Unregisters the given {@link IndicatorListener} from the given {@link Indicator}. The {@link Indicator} is no
+     * longer evaluated once it has no {@link IndicatorListener}s.
+     *
+     * @param indicator the {@link Indicator}
+     * @param listener  the {@link IndicatorListener}
+     *
+     * @return this {@link StreamingEngine}, for method chaining
+     */
+    public <T> StreamingEngine unregister(Indicator<T> indicator, IndicatorListener<T> listener) {
+        final List<IndicatorListener<?>> listeners = listenersOfIndicators.get(indicator);
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+            listenersOfIndicators.remove(indicator);
+            updateOrder();
+        }
+        return this;
+    }
+
+    private void updateOrder() {
+        final List<Indicator<?>> order = topologicalOrder(listenersOfIndicators.keySet());
+        final Map<Indicator<?>, Integer> consumerCounts = new IdentityHashMap<>();
+        for (Indicator<?> indicator : order) {
+            final Set<Indicator<?>> dependencies = newSetFromMap(new IdentityHashMap<>());
+            dependencies.addAll(indicator.getDependencies());
+            for (Indicator<?> dependency : dependencies) {
+                consumerCounts.merge(dependency, 1, Integer::sum);
+            }
+        }
+        topologicalOrder = unmodifiableList(order);
+        evaluationOrder = order.stream()
+                .filter(indicator -> listenersOfIndicators.containsKey(indicator) ||
+                        consumerCounts.getOrDefault(indicator, 0) > 1)
+                .toArray(Indicator<?>[]::new);
+        evaluatedValues = new Object[evaluationOrder.length];
+    }
+
+    /**
+     * Evaluates the registered {@link Indicator}s and their shared dependencies at {@link #getSeries()}
+     * {@link Series#getEndIndex()} in {@link #getTopologicalOrder()} and then notifies the {@link IndicatorListener}s
+     * of the registered {@link Indicator}s in the same order. This is called automatically after every
+     * {@link Series#add(Object, boolean)} of {@link #getSeries()}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void update() {
+        if (series.isEmpty()) {
+            return;
+        }
+        final long endIndex = series.getEndIndex();
+        final Indicator<?>[] indicators = evaluationOrder;
+        final Object[] values = evaluatedValues;
+        for (int index = 0; index < indicators.length; index++) {
+            values[index] = indicators[index].getValue(endIndex);
+        }
+        for (int index = 0; index < indicators.length; index++) {
+            final Indicator indicator = indicators[index];
+            final List<IndicatorListener<?>> listeners = listenersOfIndicators.get(indicator);
+            if (listeners == null) {
+                continue; // A shared dependency
+            }
+            for (IndicatorListener listener : listeners) {
+                listener.onValue(indicator, endIndex, values[index]);
+            }
+        }
+    }
+
+    /**
+     * Stops listening to {@link #getSeries()}. The registered {@link Indicator}s are no longer evaluated after
+     * {@link Series#add(Object, boolean)}, but {@link #update()} may still be called explicitly.
+     */
+    public void close() {
+        series.removeListener(seriesListener);
+    }
+}